@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -21,6 +23,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -28,6 +31,7 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.ui.FxThreadExecutor;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -77,8 +81,11 @@ public class MainApp extends Application {
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        List<InvalidPersonRecord> invalidRecords = new ArrayList<>();
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = userPrefs.isLenientLoading()
+                    ? storage.readPersonRecords().map(records -> AddressBook.fromRecords(records, invalidRecords))
+                    : storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
@@ -89,8 +96,14 @@ public class MainApp extends Application {
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
+        for (InvalidPersonRecord invalidRecord : invalidRecords) {
+            logger.warning("Leaving out person " + invalidRecord.getPosition() + " in the data file, "
+                    + invalidRecord.getRecord().getName() + ": " + invalidRecord.getReason());
+        }
 
-        return new ModelManager(initialData, userPrefs);
+        Model model = new ModelManager(initialData, userPrefs, new FxThreadExecutor());
+        model.setInvalidRecords(invalidRecords);
+        return model;
     }
 
     private void initLogging(Config config) {
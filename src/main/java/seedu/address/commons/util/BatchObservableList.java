@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, or another list given to {@link #backedBy(List)}, that can
+ * group several modifications into a single change notification.
+ * <p>
+ * Modifications made by the {@code Runnable} given to {@link #runBatch(Runnable)} take effect immediately, but
+ * listeners are only notified once, after it returns, with a change that describes all of them.
+ * <p>
+ * The list supports fast random access, so that algorithms such as {@code Collections.binarySearch} index into it
+ * instead of iterating over it.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private final List<E> elements;
+
+    public BatchObservableList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a list containing the elements of {@code initialElements}.
+     */
+    public BatchObservableList(Collection<? extends E> initialElements) {
+        this(new ArrayList<E>(requireNonNull(initialElements)));
+    }
+
+    private BatchObservableList(List<E> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns a list that keeps its elements in {@code elements}, which must not be modified other than through it
+     * and must support fast random access.
+     */
+    public static <E> BatchObservableList<E> backedBy(List<E> elements) {
+        requireNonNull(elements);
+        checkArgument(elements instanceof RandomAccess, "The backing list must support fast random access");
+        return new BatchObservableList<>(elements);
+    }
+
+    /**
+     * Runs {@code modifications} on this list and notifies listeners of them as a single change.
+     * Batches may be nested; listeners are notified when the outermost batch ends.
+     */
+    public void runBatch(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return elements.indexOf(o);
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} up to, but not including, {@code toIndex} from the backing list at
+     * once, rather than one at a time, so that clearing a large list does not move the elements after each of them.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<E> range = elements.subList(fromIndex, toIndex);
+        if (range.isEmpty()) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(range);
+        beginChange();
+        try {
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+}
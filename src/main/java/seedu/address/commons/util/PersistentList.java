@@ -0,0 +1,464 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that is changed by creating a new list sharing most of its structure with the old one, so that a
+ * list can be kept as a snapshot at no cost and each change takes time and memory logarithmic in its size.
+ * <p>
+ * The elements are kept in a tree, all of whose leaves are at the same depth, in the manner of a B+-tree or RRB
+ * vector: each leaf holds up to 32 elements and each branch up to 32 children, along with the number of elements
+ * under its children so far, by which an element is found from its position. Nodes other than the root are at least
+ * half full, so that the tree stays shallow; a change copies only the nodes on the path to the element it touches.
+ * <p>
+ * The list does not allow nulls. Its mutators inherited from {@code List} throw
+ * {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MAX_WIDTH = 32;
+    private static final int MIN_WIDTH = MAX_WIDTH / 2;
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    /** The root of the tree, or null if the list is empty. */
+    private final Node root;
+    /** The leaf last read by {@link #get(int)}, so that reading the elements in order descends once per leaf. */
+    private Focus focus;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in order, which is {@code elements} itself if it is already
+     * a {@code PersistentList}. Takes time linear in the number of elements otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build(array));
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Focus current = focus;
+        if (current == null || index < current.start || index >= current.start + current.elements.length) {
+            checkIndex(index, size() - 1);
+            current = focusOn(index);
+            focus = current;
+        }
+        return (E) current.elements[index - current.start];
+    }
+
+    /**
+     * Returns a list with {@code element} in place of the element at position {@code index}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() - 1);
+        return new PersistentList<>(root.with(index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at position {@code index}, moving the elements from that position
+     * onwards one position later.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        if (root == null) {
+            return new PersistentList<>(new Leaf(new Object[] {element}));
+        }
+
+        Node[] nodes = root.plus(index, element);
+        return new PersistentList<>(nodes.length == 1 ? nodes[0] : Branch.of(nodes));
+    }
+
+    /**
+     * Returns a list with the elements of {@code elements} added at the end, in order. If there are many of them
+     * compared to the elements of this list, the list is rebuilt rather than added to one element at a time.
+     */
+    public PersistentList<E> plusAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements.size() < size() / MAX_WIDTH) {
+            PersistentList<E> result = this;
+            for (E element : elements) {
+                result = result.plus(element);
+            }
+            return result;
+        }
+
+        List<E> all = new ArrayList<>(size() + elements.size());
+        all.addAll(this);
+        all.addAll(elements);
+        return copyOf(all);
+    }
+
+    /**
+     * Returns a list without the element at position {@code index}, moving the elements after it one position
+     * earlier.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size() - 1);
+        Node node = root.minus(index);
+        while (node instanceof Branch && ((Branch) node).children.length == 1) {
+            node = ((Branch) node).children[0];
+        }
+        return node.size() == 0 ? empty() : new PersistentList<>(node);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (element.equals(o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator that reads each leaf of the tree in turn, rather than finding each element from the root.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Object[] leaf = new Object[0];
+            private int leafIndex;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (leafIndex == leaf.length) {
+                    leaf = focusOn(index).elements;
+                    leafIndex = 0;
+                }
+                index++;
+                return (E) leaf[leafIndex++];
+            }
+        };
+    }
+
+    /**
+     * Returns the leaf that holds the element at position {@code index}.
+     */
+    private Focus focusOn(int index) {
+        Node node = root;
+        int start = 0;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.childContaining(index - start);
+            start += branch.start(child);
+            node = branch.children[child];
+        }
+        return new Focus(start, ((Leaf) node).elements);
+    }
+
+    private static void checkIndex(int index, int maxIndex) {
+        if (index < 0 || index > maxIndex) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not between 0 and " + maxIndex);
+        }
+    }
+
+    /**
+     * Returns a tree of {@code elements}, which must not be empty, spread as evenly as possible between as few leaves
+     * as can hold them, and those between as few branches as can hold them, up to a single root.
+     */
+    private static Node build(Object[] elements) {
+        Node[] nodes = new Node[ceilDiv(elements.length, MAX_WIDTH)];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Leaf(Arrays.copyOfRange(elements, spread(elements.length, nodes.length, i),
+                    spread(elements.length, nodes.length, i + 1)));
+        }
+
+        while (nodes.length > 1) {
+            Node[] branches = new Node[ceilDiv(nodes.length, MAX_WIDTH)];
+            for (int i = 0; i < branches.length; i++) {
+                branches[i] = Branch.of(Arrays.copyOfRange(nodes, spread(nodes.length, branches.length, i),
+                        spread(nodes.length, branches.length, i + 1)));
+            }
+            nodes = branches;
+        }
+        return nodes[0];
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * Returns the position at which the {@code part}-th of {@code parts} nearly equal parts of {@code total} starts.
+     */
+    private static int spread(int total, int parts, int part) {
+        return (int) ((long) total * part / parts);
+    }
+
+    /**
+     * Returns {@code node} and its sibling {@code next} as a single node if they fit in one, or otherwise as two nodes
+     * sharing their contents evenly, so that neither is less than half full.
+     */
+    private static Node[] rebalance(Node node, Node next) {
+        if (node instanceof Leaf) {
+            Object[] elements = concat(((Leaf) node).elements, ((Leaf) next).elements);
+            if (elements.length <= MAX_WIDTH) {
+                return new Node[] {new Leaf(elements)};
+            }
+            int half = elements.length / 2;
+            return new Node[] {new Leaf(Arrays.copyOfRange(elements, 0, half)),
+                new Leaf(Arrays.copyOfRange(elements, half, elements.length))};
+        }
+
+        Node[] children = concat(((Branch) node).children, ((Branch) next).children);
+        if (children.length <= MAX_WIDTH) {
+            return new Node[] {Branch.of(children)};
+        }
+        int half = children.length / 2;
+        return new Node[] {Branch.of(Arrays.copyOfRange(children, 0, half)),
+            Branch.of(Arrays.copyOfRange(children, half, children.length))};
+    }
+
+    private static <T> T[] concat(T[] first, T[] second) {
+        T[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static <T> T[] insert(T[] array, int index, T element) {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        result[index] = element;
+        return result;
+    }
+
+    private static <T> T[] delete(T[] array, int index) {
+        T[] result = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    /**
+     * A leaf of the tree and the position of its first element. It is immutable, so that it can be shared between
+     * threads reading the list without synchronization.
+     */
+    private static final class Focus {
+
+        private final int start;
+        private final Object[] elements;
+
+        Focus(int start, Object[] elements) {
+            this.start = start;
+            this.elements = elements;
+        }
+    }
+
+    /**
+     * A node of the tree, which is never modified once created.
+     */
+    private abstract static class Node {
+
+        /** Returns the number of elements under this node. */
+        abstract int size();
+
+        /** Returns the number of elements or children held directly by this node. */
+        abstract int width();
+
+        /** Returns a copy of this node with {@code element} at position {@code index} under it. */
+        abstract Node with(int index, Object element);
+
+        /** Returns a copy of this node with {@code element} inserted at {@code index}, split in two if overfull. */
+        abstract Node[] plus(int index, Object element);
+
+        /** Returns a copy of this node without the element at {@code index}, which may be less than half full. */
+        abstract Node minus(int index);
+    }
+
+    private static final class Leaf extends Node {
+
+        private final Object[] elements;
+
+        Leaf(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        int size() {
+            return elements.length;
+        }
+
+        @Override
+        int width() {
+            return elements.length;
+        }
+
+        @Override
+        Node with(int index, Object element) {
+            Object[] copy = elements.clone();
+            copy[index] = element;
+            return new Leaf(copy);
+        }
+
+        @Override
+        Node[] plus(int index, Object element) {
+            Object[] inserted = insert(elements, index, element);
+            if (inserted.length <= MAX_WIDTH) {
+                return new Node[] {new Leaf(inserted)};
+            }
+            int half = inserted.length / 2;
+            return new Node[] {new Leaf(Arrays.copyOfRange(inserted, 0, half)),
+                new Leaf(Arrays.copyOfRange(inserted, half, inserted.length))};
+        }
+
+        @Override
+        Node minus(int index) {
+            return new Leaf(delete(elements, index));
+        }
+    }
+
+    private static final class Branch extends Node {
+
+        private final Node[] children;
+        /** The number of elements under each child and the children before it. */
+        private final int[] ends;
+
+        private Branch(Node[] children, int[] ends) {
+            this.children = children;
+            this.ends = ends;
+        }
+
+        static Branch of(Node[] children) {
+            int[] ends = new int[children.length];
+            int end = 0;
+            for (int i = 0; i < children.length; i++) {
+                end += children[i].size();
+                ends[i] = end;
+            }
+            return new Branch(children, ends);
+        }
+
+        @Override
+        int size() {
+            return ends[ends.length - 1];
+        }
+
+        @Override
+        int width() {
+            return children.length;
+        }
+
+        int start(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        /**
+         * Returns the child under which the element at {@code index} is.
+         */
+        int childContaining(int index) {
+            int low = 0;
+            int high = ends.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ends[middle] > index) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        Node with(int index, Object element) {
+            int child = childContaining(index);
+            Node[] copy = children.clone();
+            copy[child] = children[child].with(index - start(child), element);
+            return new Branch(copy, ends);
+        }
+
+        @Override
+        Node[] plus(int index, Object element) {
+            // an element inserted after the last is added to the last child
+            int child = index == size() ? children.length - 1 : childContaining(index);
+            Node[] replacements = children[child].plus(index - start(child), element);
+            Node[] copy = children.clone();
+            copy[child] = replacements[0];
+            if (replacements.length == 2) {
+                copy = insert(copy, child + 1, replacements[1]);
+            }
+            if (copy.length <= MAX_WIDTH) {
+                return new Node[] {of(copy)};
+            }
+            int half = copy.length / 2;
+            return new Node[] {of(Arrays.copyOfRange(copy, 0, half)), of(Arrays.copyOfRange(copy, half, copy.length))};
+        }
+
+        @Override
+        Node minus(int index) {
+            int child = childContaining(index);
+            Node replacement = children[child].minus(index - start(child));
+            Node[] copy = children.clone();
+            copy[child] = replacement;
+            if (replacement.width() >= MIN_WIDTH || copy.length == 1) {
+                return of(copy);
+            }
+
+            // merge the child with a sibling, or share their contents if they do not fit in one node
+            int first = child == 0 ? 0 : child - 1;
+            Node[] rebalanced = rebalance(copy[first], copy[first + 1]);
+            copy = delete(copy, first + 1);
+            copy[first] = rebalanced[0];
+            if (rebalanced.length == 2) {
+                copy = insert(copy, first + 1, rebalanced[1]);
+            }
+            return of(copy);
+        }
+    }
+}
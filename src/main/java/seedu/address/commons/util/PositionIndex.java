@@ -0,0 +1,257 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Keeps the position of each of a sequence of distinct keys while keys are inserted into and removed from the middle
+ * of the sequence, so that the position of a key is found without scanning the sequence.
+ * <p>
+ * The keys are kept in a treap ordered by position, in which each node records the number of nodes under it and its
+ * parent. The position of a key is found by walking from its node to the root, and a key is inserted or removed by
+ * walking from the root; both take time logarithmic in the number of keys, as the treap is balanced by random
+ * priorities.
+ */
+public class PositionIndex<K> {
+
+    public static final String MESSAGE_DUPLICATE_KEY = "Each key can only be at one position";
+
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private final Random random = new Random();
+    private Node<K> root;
+
+    /**
+     * Returns the number of keys.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns true if {@code key} is in the sequence.
+     */
+    public boolean contains(K key) {
+        return nodes.containsKey(key);
+    }
+
+    /**
+     * Returns the position of {@code key} in the sequence, or -1 if it is not in it.
+     */
+    public int indexOf(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return -1;
+        }
+
+        int index = sizeOf(node.left);
+        for (; node.parent != null; node = node.parent) {
+            if (node == node.parent.right) {
+                index += sizeOf(node.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Inserts {@code key}, which must not be in the sequence, at position {@code index}.
+     */
+    public void add(int index, K key) {
+        requireNonNull(key);
+        checkArgument(!nodes.containsKey(key), MESSAGE_DUPLICATE_KEY);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not between 0 and " + size());
+        }
+
+        Node<K> added = new Node<>(key, random.nextInt());
+        nodes.put(key, added);
+        if (root == null) {
+            root = added;
+            return;
+        }
+
+        Node<K> node = root;
+        while (true) {
+            node.size++;
+            if (index <= sizeOf(node.left)) {
+                if (node.left == null) {
+                    node.left = added;
+                    break;
+                }
+                node = node.left;
+            } else {
+                index -= sizeOf(node.left) + 1;
+                if (node.right == null) {
+                    node.right = added;
+                    break;
+                }
+                node = node.right;
+            }
+        }
+        added.parent = node;
+        while (added.parent != null && added.priority > added.parent.priority) {
+            rotateUp(added);
+        }
+    }
+
+    /**
+     * Removes {@code key} from the sequence and returns the position it was at, or -1 if it was not in it.
+     */
+    public int remove(K key) {
+        int index = indexOf(key);
+        if (index == -1) {
+            return -1;
+        }
+
+        Node<K> node = nodes.remove(key);
+        while (node.left != null || node.right != null) {
+            Node<K> child = node.left == null || node.right != null && node.right.priority > node.left.priority
+                    ? node.right
+                    : node.left;
+            rotateUp(child);
+        }
+        if (node.parent == null) {
+            root = null;
+        } else if (node.parent.left == node) {
+            node.parent.left = null;
+        } else {
+            node.parent.right = null;
+        }
+        for (Node<K> ancestor = node.parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size--;
+        }
+        return index;
+    }
+
+    /**
+     * Puts {@code newKey}, which must not be in the sequence unless it equals {@code oldKey}, at the position of
+     * {@code oldKey}, which must be in it.
+     */
+    public void replace(K oldKey, K newKey) {
+        requireNonNull(newKey);
+        checkArgument(oldKey.equals(newKey) || !nodes.containsKey(newKey), MESSAGE_DUPLICATE_KEY);
+        Node<K> node = nodes.remove(oldKey);
+        checkArgument(node != null, "The key to replace must be in the sequence");
+        node.key = newKey;
+        nodes.put(newKey, node);
+    }
+
+    /**
+     * Replaces the sequence with {@code keys}, which must be distinct, in time linear in their number.
+     */
+    public void setAll(List<K> keys) {
+        requireNonNull(keys);
+        nodes.clear();
+        root = null;
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Node<K>> built = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        Node<K> builtRoot = build(keys, 0, keys.size(), built);
+        for (Node<K> node : built) {
+            if (nodes.put(node.key, node) != null) {
+                nodes.clear();
+                throw new IllegalArgumentException(MESSAGE_DUPLICATE_KEY);
+            }
+        }
+        root = builtRoot;
+
+        // priorities are handed out in decreasing order, level by level, so that each node outranks its children
+        int[] priorities = random.ints(keys.size()).sorted().toArray();
+        int next = priorities.length;
+        Deque<Node<K>> level = new ArrayDeque<>(List.of(root));
+        while (!level.isEmpty()) {
+            Node<K> node = level.poll();
+            node.priority = priorities[--next];
+            if (node.left != null) {
+                level.add(node.left);
+            }
+            if (node.right != null) {
+                level.add(node.right);
+            }
+        }
+    }
+
+    /**
+     * Returns a balanced tree of the keys from position {@code from} up to, but not including, {@code to}, recording
+     * each node at its position in {@code built}.
+     */
+    private static <K> Node<K> build(List<K> keys, int from, int to, List<Node<K>> built) {
+        if (from == to) {
+            return null;
+        }
+
+        int middle = (from + to) >>> 1;
+        Node<K> node = new Node<>(requireNonNull(keys.get(middle)), 0);
+        built.set(middle, node);
+        node.left = build(keys, from, middle, built);
+        node.right = build(keys, middle + 1, to, built);
+        node.size = to - from;
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+        return node;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Rotates {@code node} above its parent, keeping the order of the keys.
+     */
+    private void rotateUp(Node<K> node) {
+        Node<K> parent = node.parent;
+        Node<K> grandparent = parent.parent;
+        if (parent.left == node) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+        parent.parent = node;
+        node.parent = grandparent;
+        if (grandparent == null) {
+            root = node;
+        } else if (grandparent.left == parent) {
+            grandparent.left = node;
+        } else {
+            grandparent.right = node;
+        }
+        parent.size = sizeOf(parent.left) + sizeOf(parent.right) + 1;
+        node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+    }
+
+    private static final class Node<K> {
+        private K key;
+        private int priority;
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+        private Node<K> parent;
+
+        Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+}
@@ -6,12 +6,17 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final int SOUNDEX_LENGTH = 4;
+    /** The Soundex digit of each letter from A to Z, with 0 for letters that are not encoded. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +43,130 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the number of single-character insertions, deletions and substitutions needed to turn {@code first}
+     * into {@code second}. Unlike {@link #editDistance(String, String, int)}, this distance satisfies the triangle
+     * inequality, so it can be used to organise words in a metric tree.
+     *   <br>examples:<pre>
+     *       levenshteinDistance("alex", "alxe") == 2
+     *       levenshteinDistance("yeoh", "yeo") == 1
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int levenshteinDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] recycled = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code first} into {@code second}, or {@code maxDistance + 1} if more than {@code maxDistance}
+     * are needed. Stops as soon as the distance is known to exceed {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       editDistance("alex", "alxe", 2) == 1 // one swap
+     *       editDistance("yeoh", "yeo", 2) == 1 // one deletion
+     *       editDistance("bob", "alice", 2) == 3 // more than 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // rows of the optimal string alignment table for the previous two and the current prefix of first
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}: its first letter in upper case followed by three digits
+     * encoding the consonants that follow, so that words that sound alike usually have the same code. Characters
+     * other than the letters a to z are ignored, ignoring case; a word with no such letters has an empty code.
+     *   <br>examples:<pre>
+     *       soundex("Bernice") == "B652"
+     *       soundex("burnees") == "B652"
+     *       soundex("Yu") == "Y000"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+        String letters = word.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+        if (letters.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH).append(letters.charAt(0));
+        char previousDigit = soundexDigitOf(letters.charAt(0));
+        for (int i = 1; i < letters.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            char digit = soundexDigitOf(letter);
+            if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            // H and W do not separate consonants with the same digit, but vowels do
+            if (letter != 'H' && letter != 'W') {
+                previousDigit = digit;
+            }
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    private static char soundexDigitOf(char letter) {
+        return SOUNDEX_DIGITS.charAt(letter - 'A');
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list whose contents are always those of a {@link PersistentList}, which {@link #getVersion()} returns without
+ * copying, so that a snapshot of the list can be taken at any time at no cost.
+ * <p>
+ * Each change replaces the current version with a new one, sharing most of its structure. Elements added at the end
+ * are first kept in an ordinary list, and only added to the current version when it is next needed, so that filling
+ * the list takes linear time. The list does not allow nulls, and is safe to use from several threads.
+ */
+public class VersionedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private PersistentList<E> version = PersistentList.empty();
+    /** The elements added at the end of the list since the current version was last brought up to date. */
+    private final List<E> appended = new ArrayList<>();
+
+    /**
+     * Returns the current contents of the list, which later changes to the list do not affect.
+     */
+    public synchronized PersistentList<E> getVersion() {
+        if (!appended.isEmpty()) {
+            version = version.plusAll(appended);
+            appended.clear();
+        }
+        return version;
+    }
+
+    @Override
+    public synchronized int size() {
+        return version.size() + appended.size();
+    }
+
+    @Override
+    public synchronized E get(int index) {
+        return index < version.size() ? version.get(index) : appended.get(index - version.size());
+    }
+
+    @Override
+    public synchronized E set(int index, E element) {
+        requireNonNull(element);
+        E previous = get(index);
+        if (index < version.size()) {
+            version = version.with(index, element);
+        } else {
+            appended.set(index - version.size(), element);
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized void add(int index, E element) {
+        requireNonNull(element);
+        if (index == size()) {
+            appended.add(element);
+        } else {
+            version = getVersion().plus(index, element);
+        }
+        modCount++;
+    }
+
+    @Override
+    public synchronized E remove(int index) {
+        E previous = get(index);
+        version = getVersion().minus(index);
+        modCount++;
+        return previous;
+    }
+
+    /**
+     * Removes the elements from position {@code fromIndex} up to, but not including, {@code toIndex}, rebuilding the
+     * current version from the elements left if that is quicker than removing them one at a time.
+     */
+    @Override
+    protected synchronized void removeRange(int fromIndex, int toIndex) {
+        PersistentList<E> current = getVersion();
+        int removed = toIndex - fromIndex;
+        if (removed < current.size() / 2) {
+            for (int i = 0; i < removed; i++) {
+                current = current.minus(fromIndex);
+            }
+        } else {
+            List<E> kept = new ArrayList<>(current.subList(0, fromIndex));
+            kept.addAll(current.subList(toIndex, current.size()));
+            current = PersistentList.copyOf(kept);
+        }
+        version = current;
+        modCount++;
+    }
+
+    @Override
+    public synchronized int indexOf(Object o) {
+        return getVersion().indexOf(o);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.stats.AddressBookStatistics;
 
 /**
  * API of the Logic component
@@ -23,6 +25,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a dedicated command thread and returns immediately.
+     * Commands are executed one at a time, in the order in which they were submitted.
+     * @param commandText The command as entered by the user.
+     * @return a future that completes with the result of the command execution, or completes exceptionally with
+     *     a {@code CommandException} or {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Loads the next page of persons into the filtered list of persons if it is paged, on the command thread after
+     * any commands submitted earlier.
+     * @return a future that completes with the number of persons loaded.
+     *
+     * @see seedu.address.model.Model#fetchMorePersons()
+     */
+    CompletableFuture<Integer> fetchMorePersonsAsync();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +50,22 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons as shown to the user.
+     *
+     * @see seedu.address.model.Model#getDisplayedPersonList()
+     */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Counts the persons in the address book, and how many of them have each tag and email domain, on the command
+     * thread after any commands submitted earlier, so that the caller never waits for the address book lock.
+     * @return a future that completes with the statistics.
+     *
+     * @see seedu.address.model.Model#getAddressBookStatistics()
+     */
+    CompletableFuture<AddressBookStatistics> getAddressBookStatisticsAsync();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -2,8 +2,15 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -11,11 +18,14 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.TransactionStateException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.stats.AddressBookStatistics;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,11 +37,21 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_TRANSACTION_ROLLED_BACK = "%s\nThe transaction has been rolled back.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AtomicBoolean hasUnsavedChanges;
+    /** The stored persons left out of the address book that were last saved along with it. */
+    private List<InvalidPersonRecord> savedInvalidRecords;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,6 +60,11 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        // a data file that has not been saved yet is saved after the first command; one that was loaded is only
+        // saved once it changes, so that persons left out when loading it are not dropped from it unasked
+        hasUnsavedChanges = new AtomicBoolean(!Files.exists(storage.getAddressBookFilePath()));
+        savedInvalidRecords = model.getInvalidRecords();
+        model.addAddressBookListener(events -> hasUnsavedChanges.set(true));
     }
 
     @Override
@@ -47,20 +72,73 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            commandResult = command.execute(model);
+        } catch (ParseException | TransactionStateException e) {
+            // the command was rejected before it changed anything, so a transaction keeps the changes staged in it
+            throw e;
+        } catch (CommandException e) {
+            if (!model.isInTransaction()) {
+                throw e;
+            }
+            // a failed command aborts the transaction so that none of its changes are kept
+            model.rollbackTransaction();
+            throw new CommandException(String.format(MESSAGE_TRANSACTION_ROLLED_BACK, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            // the command may have stopped halfway through its changes, which must not be left in the transaction
+            if (model.isInTransaction()) {
+                model.rollbackTransaction();
+            }
+            throw e;
+        }
+
+        List<InvalidPersonRecord> invalidRecords = model.getInvalidRecords();
+        if (!invalidRecords.equals(savedInvalidRecords)) {
+            hasUnsavedChanges.set(true);
+        }
+        if (model.isInTransaction() || !hasUnsavedChanges.getAndSet(false)) {
+            // changes made during a transaction are saved once, when it is committed
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            long saveStartTime = System.nanoTime();
+            storage.saveAddressBook(model.getAddressBookSnapshot(), invalidRecords.stream()
+                    .map(InvalidPersonRecord::getRecord)
+                    .collect(Collectors.toList()));
+            savedInvalidRecords = invalidRecords;
+            logger.fine(String.format("Saved address book in %.3f ms", (System.nanoTime() - saveStartTime) / 1e6));
         } catch (AccessDeniedException e) {
+            hasUnsavedChanges.set(true);
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            hasUnsavedChanges.set(true);
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable e) {
+                // errors too must complete the result, or whoever waits for it, such as the command box, never resumes
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Integer> fetchMorePersonsAsync() {
+        return CompletableFuture.supplyAsync(model::fetchMorePersons, commandExecutor);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -68,7 +146,12 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return model.getDisplayedPersonList();
+    }
+
+    @Override
+    public CompletableFuture<AddressBookStatistics> getAddressBookStatisticsAsync() {
+        return CompletableFuture.supplyAsync(model::getAddressBookStatistics, commandExecutor);
     }
 
     @Override
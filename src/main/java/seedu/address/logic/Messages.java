@@ -1,11 +1,13 @@
 package seedu.address.logic;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Page;
 
 /**
  * Container for user visible messages.
@@ -16,6 +18,15 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress!";
+    public static final String MESSAGE_TRANSACTION_IN_PROGRESS =
+            "This command cannot be used while a transaction is in progress!";
+    public static final String MESSAGE_PAGE_LISTED_OVERVIEW = "%1$d persons listed from page %2$d!";
+    public static final String MESSAGE_MORE_PERSONS =
+            "More persons may be available; scroll to the end of the list to load them.";
+    public static final String MESSAGE_STAGE = "%1$s %2$.3f ms";
+    public static final String MESSAGE_UNDO_HISTORY_EXCEEDED =
+            "This change is larger than the undo history can hold, so earlier changes can no longer be undone.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -31,6 +42,24 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns a message that {@code count} persons were listed starting from {@code page}, mentioning that more can
+     * be loaded if {@code hasMore} is true.
+     */
+    public static String formatPageListed(int count, Page page, boolean hasMore) {
+        String message = String.format(MESSAGE_PAGE_LISTED_OVERVIEW, count, page.getNumber());
+        return hasMore ? message + "\n" + MESSAGE_MORE_PERSONS : message;
+    }
+
+    /**
+     * Returns the time taken by each stage in {@code stageNanos}, in milliseconds.
+     */
+    public static String formatStages(Map<String, Long> stageNanos) {
+        return stageNanos.entrySet().stream()
+                .map(stage -> String.format(MESSAGE_STAGE, stage.getKey(), stage.getValue() / 1e6))
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
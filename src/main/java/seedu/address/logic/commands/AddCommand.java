@@ -12,6 +12,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 
 /**
  * Adds a person to the address book.
@@ -56,8 +57,16 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.addPerson(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        try {
+            model.addPerson(toAdd);
+        } catch (DuplicateFieldException e) {
+            throw new CommandException(e.getMessage());
+        }
+        String feedback = String.format(MESSAGE_SUCCESS, Messages.format(toAdd));
+        if (!model.commitAddressBook()) {
+            return new CommandResult(feedback + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED);
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
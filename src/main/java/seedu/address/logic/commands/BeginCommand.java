@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.TransactionStateException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a transaction, so that the changes made by the following commands are saved together or not at all.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_SUCCESS = "Transaction started. Changes will be saved on '"
+            + CommitCommand.COMMAND_WORD + "' and discarded on '" + RollbackCommand.COMMAND_WORD + "'.";
+    public static final String MESSAGE_ALREADY_IN_TRANSACTION = "A transaction is already in progress!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.isInTransaction()) {
+            throw new TransactionStateException(MESSAGE_ALREADY_IN_TRANSACTION);
+        }
+
+        model.beginTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 
@@ -18,6 +19,9 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setAddressBook(new AddressBook());
+        if (!model.commitAddressBook()) {
+            return new CommandResult(MESSAGE_SUCCESS + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.TransactionStateException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the current transaction and keeps the changes made during it.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_SUCCESS = "Transaction committed!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isInTransaction()) {
+            throw new TransactionStateException(Messages.MESSAGE_NO_TRANSACTION);
+        }
+
+        if (!model.commitTransaction()) {
+            return new CommandResult(MESSAGE_SUCCESS + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
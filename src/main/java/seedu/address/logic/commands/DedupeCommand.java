@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.dedupe.DuplicateCluster;
+import seedu.address.model.dedupe.DuplicateDetector;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds persons that are likely to be duplicates of each other, reports them ranked by likelihood and lists them.
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final String MESSAGE_NO_DUPLICATES = "No likely duplicates found";
+    public static final String MESSAGE_SUCCESS = "Found %1$d groups of likely duplicates, %2$d persons listed:";
+    public static final String MESSAGE_CLUSTER = "%1$d. [%2$.2f] %3$s (%4$s)";
+    public static final String MESSAGE_MORE_CLUSTERS = "... and %1$d more groups";
+
+    static final int MAX_REPORTED_CLUSTERS = 20;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<DuplicateCluster> clusters = new DuplicateDetector()
+                .findDuplicates(model.getAddressBookSnapshot().getPersonList());
+        if (clusters.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        Set<Person> duplicates = new HashSet<>();
+        clusters.forEach(cluster -> duplicates.addAll(cluster.getPersons()));
+        model.updateFilteredPersonList(duplicates::contains);
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, clusters.size(),
+                model.getFilteredPersonList().size()));
+        for (int i = 0; i < Math.min(clusters.size(), MAX_REPORTED_CLUSTERS); i++) {
+            DuplicateCluster cluster = clusters.get(i);
+            String names = cluster.getPersons().stream()
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            String evidence = cluster.getEvidence().stream()
+                    .map(DuplicateCluster.Evidence::toString)
+                    .collect(Collectors.joining(", "));
+            report.append("\n").append(String.format(MESSAGE_CLUSTER, i + 1, cluster.getScore(), names, evidence));
+        }
+        if (clusters.size() > MAX_REPORTED_CLUSTERS) {
+            report.append("\n").append(String.format(MESSAGE_MORE_CLUSTERS, clusters.size() - MAX_REPORTED_CLUSTERS));
+        }
+        return new CommandResult(report.toString());
+    }
+}
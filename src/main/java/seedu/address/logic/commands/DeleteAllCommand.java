@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+
+/**
+ * Deletes all persons matching a query from the address book, as a single change.
+ */
+public class DeleteAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "delete-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes all persons who match the specified query.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " t/old AND NOT t/vip";
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d persons";
+
+    private final Query query;
+
+    /**
+     * Creates a DeleteAllCommand to delete the persons matching {@code query}.
+     */
+    public DeleteAllCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.deletePersons(query);
+        boolean isRetained = plan.getMatches().isEmpty() || model.commitAddressBook();
+
+        String feedback = String.format(MESSAGE_SUCCESS, plan.getMatches().size()) + "\n"
+                + Messages.formatStages(plan.getStageNanos());
+        return new CommandResult(isRetained ? feedback : feedback + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteAllCommand)) {
+            return false;
+        }
+
+        DeleteAllCommand otherDeleteAllCommand = (DeleteAllCommand) other;
+        return query.equals(otherDeleteAllCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -42,7 +42,11 @@ public class DeleteCommand extends Command {
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        String feedback = String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete));
+        if (!model.commitAddressBook()) {
+            return new CommandResult(feedback + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED);
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
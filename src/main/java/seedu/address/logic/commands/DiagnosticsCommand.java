@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.cache.CacheStatistics;
+
+/**
+ * Shows internal counters of the address book that are useful for diagnosing performance problems.
+ */
+public class DiagnosticsCommand extends Command {
+
+    public static final String COMMAND_WORD = "diagnostics";
+
+    public static final String MESSAGE_QUERY_CACHE =
+            "Find cache: %1$d hits, %2$d misses, %3$d evictions, %4$d/%5$d entries";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        CacheStatistics statistics = model.getQueryCacheStatistics();
+        return new CommandResult(String.format(MESSAGE_QUERY_CACHE, statistics.getHits(), statistics.getMisses(),
+                statistics.getEvictions(), statistics.getSize(), statistics.getCapacity()));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds and removes tags of all persons matching a query, as a single change.
+ */
+public class EditAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "edit-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds tags to and removes tags from all persons who "
+            + "match the specified query.\n"
+            + "Parameters: QUERY [t/+TAG]... [t/-TAG]...\n"
+            + "Example: " + COMMAND_WORD + " t/friends AND a/clementi t/+vip t/-old";
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d of %2$d matching persons";
+    public static final String MESSAGE_NOT_EDITED = "At least one tag to add (t/+TAG) or remove (t/-TAG) must be "
+            + "provided.";
+
+    private final Query query;
+    private final Set<Tag> tagsToAdd;
+    private final Set<Tag> tagsToRemove;
+
+    /**
+     * Creates an EditAllCommand that removes {@code tagsToRemove} from, and then adds {@code tagsToAdd} to, the
+     * persons matching {@code query}.
+     */
+    public EditAllCommand(Query query, Set<Tag> tagsToAdd, Set<Tag> tagsToRemove) {
+        requireAllNonNull(query, tagsToAdd, tagsToRemove);
+        this.query = query;
+        this.tagsToAdd = new HashSet<>(tagsToAdd);
+        this.tagsToRemove = new HashSet<>(tagsToRemove);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AtomicInteger editedCount = new AtomicInteger();
+        QueryPlan plan = model.editPersons(query, person -> {
+            Set<Tag> tags = new HashSet<>(person.getTags());
+            tags.removeAll(tagsToRemove);
+            tags.addAll(tagsToAdd);
+            if (tags.equals(person.getTags())) {
+                return person;
+            }
+            editedCount.incrementAndGet();
+            return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(), tags);
+        });
+        boolean isRetained = editedCount.get() == 0 || model.commitAddressBook();
+
+        String feedback = String.format(MESSAGE_SUCCESS, editedCount.get(), plan.getMatches().size()) + "\n"
+                + Messages.formatStages(plan.getStageNanos());
+        return new CommandResult(isRetained ? feedback : feedback + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand otherEditAllCommand = (EditAllCommand) other;
+        return query.equals(otherEditAllCommand.query)
+                && tagsToAdd.equals(otherEditAllCommand.tagsToAdd)
+                && tagsToRemove.equals(otherEditAllCommand.tagsToRemove);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("tagsToAdd", tagsToAdd)
+                .add("tagsToRemove", tagsToRemove)
+                .toString();
+    }
+}
@@ -1,37 +1,102 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or who match a
+ * compound query. Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-insensitive), or who match the specified query, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [explain] KEYWORD [MORE_KEYWORDS]... or [explain] QUERY, "
+            + "optionally with [limit/LIMIT [page/PAGE]]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " n/alice AND t/vip AND NOT e/@example.com\n"
+            + "Example: " + COMMAND_WORD + " ~yeo (names containing, or misspelling, the term)\n"
+            + "Example: " + COMMAND_WORD + " ph/burnees ph/you (names sounding like the terms, closest first)\n"
+            + "Example: " + COMMAND_WORD + " p/9243* OR p/*2021 (phone numbers by prefix or suffix)\n"
+            + "Example: " + COMMAND_WORD + " t/friends limit/20 page/3";
+
+    public static final String MESSAGE_DID_YOU_MEAN = "Did you mean: %1$s?";
+
+    public static final String MESSAGE_PLAN = "Plan: %1$s -> %2$d candidates, residual %3$s -> %4$d matches";
+
+    private final Predicate<Person> predicate;
+    private final boolean isExplain;
+    /** The page of matches to list, or null to list all matches. */
+    private final Page page;
+
+    public FindCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
 
-    private final NameContainsKeywordsPredicate predicate;
+    /**
+     * Creates a FindCommand that filters by {@code predicate}, and describes how it was answered if
+     * {@code isExplain} is true.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean isExplain) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.isExplain = isExplain;
+        this.page = null;
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    /**
+     * Creates a FindCommand that lists only {@code page} of the persons matching {@code predicate}, and describes
+     * how they were found if {@code isExplain} is true.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean isExplain, Page page) {
+        requireAllNonNull(predicate, page);
         this.predicate = predicate;
+        this.isExplain = isExplain;
+        this.page = page;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        QueryPlan plan;
+        String message;
+        if (page == null) {
+            plan = model.executeQuery(predicate);
+            message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        } else {
+            plan = model.executeQuery(predicate, page);
+            message = Messages.formatPageListed(model.getFilteredPersonList().size(), page,
+                    model.hasMorePersons());
+        }
+        if (model.getFilteredPersonList().isEmpty()) {
+            List<String> suggestions = model.suggestNameWords(predicate);
+            if (!suggestions.isEmpty()) {
+                message += "\n" + String.format(MESSAGE_DID_YOU_MEAN, String.join(", ", suggestions));
+            }
+        }
+        return new CommandResult(isExplain ? message + "\n" + explain(plan) : message);
+    }
+
+    /**
+     * Returns a description of {@code plan} and the time taken by each of its stages.
+     */
+    private static String explain(QueryPlan plan) {
+        return String.format(MESSAGE_PLAN, plan.getStrategy(), plan.getCandidateCount(), plan.getResidual(),
+                plan.getMatches().size()) + "\n" + Messages.formatStages(plan.getStageNanos());
     }
 
     @Override
@@ -46,13 +111,17 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isExplain == otherFindCommand.isExplain
+                && Objects.equals(page, otherFindCommand.page);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplain", isExplain)
+                .add("page", page)
                 .toString();
     }
 }
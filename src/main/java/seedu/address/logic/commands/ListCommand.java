@@ -3,22 +3,74 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.query.Page;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, or one page of them.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, or only the given page of "
+            + "them if a limit is given.\n"
+            + "Parameters: [limit/LIMIT [page/PAGE]]\n"
+            + "Example: " + COMMAND_WORD + " limit/50 page/2";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    /** The page of persons to list, or null to list all persons. */
+    private final Page page;
+
+    public ListCommand() {
+        this.page = null;
+    }
+
+    /**
+     * Creates a ListCommand that lists only {@code page} of the persons.
+     */
+    public ListCommand(Page page) {
+        requireNonNull(page);
+        this.page = page;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (page == null) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.executeQuery(PREDICATE_SHOW_ALL_PERSONS, page);
+        return new CommandResult(Messages.formatPageListed(model.getFilteredPersonList().size(), page,
+                model.hasMorePersons()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return Objects.equals(page, otherListCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("page", page)
+                .toString();
     }
 }
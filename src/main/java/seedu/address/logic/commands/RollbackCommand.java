@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.TransactionStateException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the current transaction and reverts the changes made during it.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_SUCCESS = "Transaction rolled back!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isInTransaction()) {
+            throw new TransactionStateException(Messages.MESSAGE_NO_TRANSACTION);
+        }
+
+        model.rollbackTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
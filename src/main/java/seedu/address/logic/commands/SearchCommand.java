@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.query.Page;
+import seedu.address.model.search.ScoredPerson;
+
+/**
+ * Searches the names, tags, emails and addresses of all persons for any of the argument keywords, and lists the
+ * persons found from the most to the least relevant. Matching is case insensitive and by whole words.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons whose name, tags, email or "
+            + "address contain any of the specified words (case-insensitive), and displays the best matches "
+            + "first as a list with index numbers. Words in names count the most, followed by words in tags.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [limit/LIMIT [page/PAGE]]\n"
+            + "Example: " + COMMAND_WORD + " alex clementi friends limit/10";
+
+    public static final String MESSAGE_NO_MATCHES = "No persons found";
+    public static final String MESSAGE_SUCCESS = "%1$d persons listed by relevance:";
+    public static final String MESSAGE_MATCH = "%1$d. [%2$.2f] %3$s";
+
+    private final List<String> keywords;
+    private final Page page;
+
+    /**
+     * Creates a SearchCommand that lists the first {@link #DEFAULT_LIMIT} persons best matching {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        this(keywords, new Page(DEFAULT_LIMIT, 1));
+    }
+
+    /**
+     * Creates a SearchCommand that lists {@code page} of the persons matching {@code keywords}, ranked by relevance.
+     */
+    public SearchCommand(List<String> keywords, Page page) {
+        requireAllNonNull(keywords, page);
+        this.keywords = new ArrayList<>(keywords);
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScoredPerson> matches = model.searchPersons(keywords, page);
+        if (matches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, matches.size()));
+        for (int i = 0; i < matches.size(); i++) {
+            ScoredPerson match = matches.get(i);
+            report.append("\n").append(String.format(MESSAGE_MATCH, i + 1, match.getScore(),
+                    match.getPerson().getName().fullName));
+        }
+        return new CommandResult(report.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords)
+                && page.equals(otherSearchCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("page", page)
+                .toString();
+    }
+}
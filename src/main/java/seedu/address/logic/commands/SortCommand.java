@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.query.SortOrder;
+
+/**
+ * Sorts the displayed person list by name, email or tag, or restores the order in which persons were added.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed persons by name, email or "
+            + "first tag. Without parameters, restores the order in which the persons were added.\n"
+            + "Parameters: [" + PREFIX_NAME + " | " + PREFIX_EMAIL + " | " + PREFIX_TAG + "]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME;
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+    public static final String MESSAGE_SUCCESS_INSERTION = "Restored the order in which persons were added";
+
+    private final SortOrder sortOrder;
+
+    /**
+     * Creates a SortCommand to sort the person list in {@code sortOrder}.
+     */
+    public SortCommand(SortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setSortOrder(sortOrder);
+        return new CommandResult(sortOrder == SortOrder.INSERTION
+                ? MESSAGE_SUCCESS_INSERTION
+                : String.format(MESSAGE_SUCCESS, sortOrder.name().toLowerCase(Locale.ROOT)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder == otherSortCommand.sortOrder;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
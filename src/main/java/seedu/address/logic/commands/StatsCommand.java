@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import seedu.address.model.Model;
+import seedu.address.model.stats.AddressBookStatistics;
+
+/**
+ * Shows the number of persons in the address book and the most common tags and email domains among them.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_TOTALS = "%1$d persons, %2$d tags, %3$d email domains";
+    public static final String MESSAGE_TAGS = "Tags:";
+    public static final String MESSAGE_EMAIL_DOMAINS = "Email domains:";
+    public static final String MESSAGE_FACET = "  %1$s: %2$d";
+    public static final String MESSAGE_MORE_FACETS = "  ... and %1$d more";
+
+    static final int MAX_REPORTED_FACETS = 10;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AddressBookStatistics statistics = model.getAddressBookStatistics();
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_TOTALS, statistics.getPersonCount(),
+                statistics.getTagCounts().size(), statistics.getEmailDomainCounts().size()));
+        appendFacets(report, MESSAGE_TAGS, statistics.getTagCounts());
+        appendFacets(report, MESSAGE_EMAIL_DOMAINS, statistics.getEmailDomainCounts());
+        return new CommandResult(report.toString());
+    }
+
+    /**
+     * Appends the most common of {@code counts}, which are ordered from the most common, under {@code heading}.
+     */
+    private static void appendFacets(StringBuilder report, String heading, Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        report.append("\n").append(heading);
+        Iterator<Map.Entry<String, Integer>> entries = counts.entrySet().iterator();
+        for (int i = 0; i < MAX_REPORTED_FACETS && entries.hasNext(); i++) {
+            Map.Entry<String, Integer> entry = entries.next();
+            report.append("\n").append(String.format(MESSAGE_FACET, entry.getKey(), entry.getValue()));
+        }
+        if (counts.size() > MAX_REPORTED_FACETS) {
+            report.append("\n").append(String.format(MESSAGE_MORE_FACETS, counts.size() - MAX_REPORTED_FACETS));
+        }
+    }
+}
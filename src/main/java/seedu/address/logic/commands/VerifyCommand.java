@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.InvalidPersonRecord;
+
+/**
+ * Lists the stored persons that were left out of the address book when it was loaded, and why, or removes them from
+ * the data file.
+ */
+public class VerifyCommand extends Command {
+
+    public static final String COMMAND_WORD = "verify";
+    public static final String CLEAR_WORD = "clear";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons in the data file that were left "
+            + "out because they are invalid. With " + CLEAR_WORD + ", removes them from the data file instead.\n"
+            + "Parameters: [" + CLEAR_WORD + "]\n"
+            + "Example: " + COMMAND_WORD + " " + CLEAR_WORD;
+
+    public static final String MESSAGE_ALL_VALID = "All persons in the data file are valid";
+    public static final String MESSAGE_INVALID_RECORDS = "%1$d persons in the data file are invalid and were left out"
+            + " (they are kept in the data file until they are removed with `" + COMMAND_WORD + " " + CLEAR_WORD
+            + "`):";
+    public static final String MESSAGE_INVALID_RECORD = "\n%1$d. %2$s: %3$s";
+    public static final String MESSAGE_MISSING_NAME = "(no name)";
+    public static final String MESSAGE_CLEARED = "Removed %1$d invalid persons from the data file";
+
+    private final boolean isClear;
+
+    /**
+     * Creates a VerifyCommand that lists the invalid stored persons.
+     */
+    public VerifyCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates a VerifyCommand that removes the invalid stored persons from the data file if {@code isClear} is true,
+     * and lists them otherwise.
+     */
+    public VerifyCommand(boolean isClear) {
+        this.isClear = isClear;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<InvalidPersonRecord> invalidRecords = model.getInvalidRecords();
+        if (invalidRecords.isEmpty()) {
+            return new CommandResult(MESSAGE_ALL_VALID);
+        }
+
+        if (isClear) {
+            model.setInvalidRecords(List.of());
+            return new CommandResult(String.format(MESSAGE_CLEARED, invalidRecords.size()));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_RECORDS, invalidRecords.size()));
+        for (InvalidPersonRecord invalidRecord : invalidRecords) {
+            message.append(String.format(MESSAGE_INVALID_RECORD, invalidRecord.getPosition(),
+                    Objects.requireNonNullElse(invalidRecord.getRecord().getName(), MESSAGE_MISSING_NAME),
+                    invalidRecord.getReason()));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VerifyCommand)) {
+            return false;
+        }
+
+        VerifyCommand otherVerifyCommand = (VerifyCommand) other;
+        return isClear == otherVerifyCommand.isClear;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isClear", isClear)
+                .toString();
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.logic.commands.exceptions;
+
+/**
+ * Signals that a command cannot be used in the current transaction state, such as {@code begin} while a transaction
+ * is already in progress. The command is rejected before it makes any change, so the transaction is left as it is.
+ */
+public class TransactionStateException extends CommandException {
+    public TransactionStateException(String message) {
+        super(message);
+    }
+}
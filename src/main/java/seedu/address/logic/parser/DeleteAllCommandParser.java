@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.DeleteAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteAllCommand object
+ */
+public class DeleteAllCommandParser implements Parser<DeleteAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteAllCommand
+     * and returns a DeleteAllCommand object for execution. The arguments are parsed as a query by
+     * {@code QueryParser}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteAllCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteAllCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new DeleteAllCommand(QueryParser.parse(trimmedArgs));
+        } catch (ParseException pe) {
+            throw new ParseException(pe.getMessage() + "\n" + DeleteAllCommand.MESSAGE_USAGE, pe);
+        }
+    }
+}
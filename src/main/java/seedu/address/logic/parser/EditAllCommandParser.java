@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.EditAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new EditAllCommand object
+ */
+public class EditAllCommandParser implements Parser<EditAllCommand> {
+
+    public static final String ADD_TAG_PREFIX = PREFIX_TAG.getPrefix() + "+";
+    public static final String REMOVE_TAG_PREFIX = PREFIX_TAG.getPrefix() + "-";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EditAllCommand
+     * and returns an EditAllCommand object for execution.
+     * Words starting with {@code t/+} or {@code t/-} give the tags to add or remove; the remaining words are parsed
+     * as a query by {@code QueryParser}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EditAllCommand parse(String args) throws ParseException {
+        Set<Tag> tagsToAdd = new HashSet<>();
+        Set<Tag> tagsToRemove = new HashSet<>();
+        List<String> queryWords = new ArrayList<>();
+        for (String word : args.trim().split("\\s+")) {
+            if (word.startsWith(ADD_TAG_PREFIX)) {
+                tagsToAdd.add(ParserUtil.parseTag(word.substring(ADD_TAG_PREFIX.length())));
+            } else if (word.startsWith(REMOVE_TAG_PREFIX)) {
+                tagsToRemove.add(ParserUtil.parseTag(word.substring(REMOVE_TAG_PREFIX.length())));
+            } else if (!word.isEmpty()) {
+                queryWords.add(word);
+            }
+        }
+
+        if (queryWords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE));
+        }
+        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+            throw new ParseException(EditAllCommand.MESSAGE_NOT_EDITED);
+        }
+
+        Query query;
+        try {
+            query = QueryParser.parse(String.join(" ", queryWords));
+        } catch (ParseException pe) {
+            throw new ParseException(pe.getMessage() + "\n" + EditAllCommand.MESSAGE_USAGE, pe);
+        }
+        return new EditAllCommand(query, tagsToAdd, tagsToRemove);
+    }
+}
@@ -1,33 +1,88 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Page;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String EXPLAIN_FLAG = "explain";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments containing field prefixes or parentheses are parsed as a compound query by {@code QueryParser};
+     * other arguments are treated as name keywords. Either may be preceded by {@code explain}, and may contain a
+     * {@code limit/} and {@code page/} anywhere.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap pageArguments = new ArgumentMultimap();
+        String trimmedArgs = extractPageArguments(args.trim(), pageArguments);
+        pageArguments.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT, PREFIX_PAGE);
+        Optional<Page> page = ParserUtil.parsePage(pageArguments.getValue(PREFIX_LIMIT),
+                pageArguments.getValue(PREFIX_PAGE));
+
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        boolean isExplain = false;
+        String[] flagAndQuery = trimmedArgs.split("\\s+", 2);
+        if (flagAndQuery.length == 2 && flagAndQuery[0].equals(EXPLAIN_FLAG)) {
+            isExplain = true;
+            trimmedArgs = flagAndQuery[1];
+        }
+
+        Predicate<Person> predicate;
+        if (QueryParser.isQuery(trimmedArgs)) {
+            try {
+                predicate = QueryParser.parse(trimmedArgs);
+            } catch (ParseException pe) {
+                throw new ParseException(pe.getMessage() + "\n" + FindCommand.MESSAGE_USAGE, pe);
+            }
+        } else {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
+            predicate = new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
+        }
+
+        return page.isPresent()
+                ? new FindCommand(predicate, isExplain, page.get())
+                : new FindCommand(predicate, isExplain);
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Moves the values of the {@code limit/} and {@code page/} words in {@code args} into {@code pageArguments},
+     * and returns the remaining words.
+     */
+    private static String extractPageArguments(String args, ArgumentMultimap pageArguments) {
+        List<String> remainingWords = new ArrayList<>();
+        for (String word : args.split("\\s+")) {
+            if (word.startsWith(PREFIX_LIMIT.getPrefix())) {
+                pageArguments.put(PREFIX_LIMIT, word.substring(PREFIX_LIMIT.getPrefix().length()));
+            } else if (word.startsWith(PREFIX_PAGE.getPrefix())) {
+                pageArguments.put(PREFIX_PAGE, word.substring(PREFIX_PAGE.getPrefix().length()));
+            } else {
+                remainingWords.add(word);
+            }
+        }
+        return String.join(" ", remainingWords);
     }
 
 }
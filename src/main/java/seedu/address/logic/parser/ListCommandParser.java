@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.Page;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution. Arguments other than a limit and page are ignored.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT, PREFIX_PAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT, PREFIX_PAGE);
+
+        Optional<Page> page = ParserUtil.parsePage(argMultimap.getValue(PREFIX_LIMIT),
+                argMultimap.getValue(PREFIX_PAGE));
+        return page.map(ListCommand::new).orElseGet(ListCommand::new);
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -13,6 +15,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.query.Page;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -21,6 +24,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_PAGE_WITHOUT_LIMIT = "A page can only be given together with a limit.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -35,6 +39,31 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses the optional {@code limit} and {@code page} values into a {@code Page}, with {@code page} defaulting to
+     * the first page. Leading and trailing whitespaces will be trimmed.
+     * Returns an empty {@code Optional} if neither value is given.
+     *
+     * @throws ParseException if either value is not a positive integer, or {@code page} is given without
+     *     {@code limit}.
+     */
+    public static Optional<Page> parsePage(Optional<String> limit, Optional<String> page) throws ParseException {
+        requireAllNonNull(limit, page);
+        if (limit.isEmpty()) {
+            if (page.isPresent()) {
+                throw new ParseException(MESSAGE_PAGE_WITHOUT_LIMIT);
+            }
+            return Optional.empty();
+        }
+
+        String trimmedLimit = limit.get().trim();
+        String trimmedPage = page.orElse("1").trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit) || !StringUtil.isNonZeroUnsignedInteger(trimmedPage)) {
+            throw new ParseException(Page.MESSAGE_CONSTRAINTS);
+        }
+        return Optional.of(new Page(Integer.parseInt(trimmedLimit), Integer.parseInt(trimmedPage)));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,192 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.ApproximateNameQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PhoneticNameQuery;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses compound queries such as {@code n/alice AND t/vip AND NOT e/@example.com} into a {@code Query}.
+ * <p>
+ * A query is made of field conditions ({@code n/WORD}, {@code p/PHONE}, {@code e/EMAIL}, {@code a/ADDRESS},
+ * {@code t/TAG}, {@code ~TERM} for a name approximately matching {@code TERM}, and {@code ph/TERM} for a name
+ * sounding like {@code TERM}) combined with {@code NOT},
+ * {@code AND} and {@code OR}, in decreasing order of precedence, and grouped with parentheses. Operators are
+ * case-insensitive, and conditions written next to each other are combined with {@code AND}. Values cannot contain
+ * whitespace or parentheses.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected \"%1$s\" in query";
+    public static final String MESSAGE_UNEXPECTED_END = "Query is incomplete";
+    public static final String MESSAGE_MISSING_VALUE = "Missing value after %1$s";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+    private static final Map<String, Field> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME.getPrefix(), Field.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_PHONE.getPrefix(), Field.PHONE);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL.getPrefix(), Field.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_ADDRESS.getPrefix(), Field.ADDRESS);
+        FIELDS_BY_PREFIX.put(PREFIX_TAG.getPrefix(), Field.TAG);
+    }
+
+    private final List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code input} looks like a compound query rather than a list of name keywords,
+     * i.e. it contains a parenthesis or a word starting with a field prefix, {@code ~} or {@code ph/}.
+     */
+    public static boolean isQuery(String input) {
+        requireNonNull(input);
+        return tokenize(input).stream().anyMatch(token -> token.equals("(")
+                || token.startsWith(ApproximateNameQuery.PREFIX) || token.startsWith(PhoneticNameQuery.PREFIX)
+                || fieldOf(token) != null);
+    }
+
+    /**
+     * Parses {@code input} into a {@code Query}.
+     * @throws ParseException if {@code input} is not a valid query.
+     */
+    public static Query parse(String input) throws ParseException {
+        requireNonNull(input);
+        QueryParser parser = new QueryParser(tokenize(input));
+        Query query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, parser.peek()));
+        }
+        return query;
+    }
+
+    private static List<String> tokenize(String input) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(input);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private static String fieldPrefixOf(String token) {
+        return FIELDS_BY_PREFIX.keySet().stream().filter(token::startsWith).findFirst().orElse(null);
+    }
+
+    private static Field fieldOf(String token) {
+        String prefix = fieldPrefixOf(token);
+        return prefix == null ? null : FIELDS_BY_PREFIX.get(prefix);
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (nextIs("OR")) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (hasNext() && !nextIs("OR") && !peek().equals(")")) {
+            if (nextIs("AND")) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (nextIs("NOT")) {
+            position++;
+            return new NotQuery(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private Query parsePrimary() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(MESSAGE_UNEXPECTED_END);
+        }
+
+        String token = tokens.get(position++);
+        if (token.equals("(")) {
+            Query query = parseOr();
+            if (!hasNext()) {
+                throw new ParseException(MESSAGE_UNEXPECTED_END);
+            }
+            if (!tokens.get(position++).equals(")")) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position - 1)));
+            }
+            return query;
+        }
+
+        if (token.startsWith(ApproximateNameQuery.PREFIX)) {
+            String term = token.substring(ApproximateNameQuery.PREFIX.length());
+            if (term.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_VALUE, ApproximateNameQuery.PREFIX));
+            }
+            return new ApproximateNameQuery(term);
+        }
+
+        if (token.startsWith(PhoneticNameQuery.PREFIX)) {
+            String term = token.substring(PhoneticNameQuery.PREFIX.length());
+            if (term.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_VALUE, PhoneticNameQuery.PREFIX));
+            }
+            if (!PhoneticNameQuery.isValidTerm(term)) {
+                throw new ParseException(PhoneticNameQuery.MESSAGE_CONSTRAINTS);
+            }
+            return new PhoneticNameQuery(term);
+        }
+
+        String prefix = fieldPrefixOf(token);
+        if (prefix == null) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        String value = token.substring(prefix.length());
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, prefix));
+        }
+        return new FieldQuery(FIELDS_BY_PREFIX.get(prefix), value);
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private boolean nextIs(String operator) {
+        return hasNext() && peek().equalsIgnoreCase(operator);
+    }
+}
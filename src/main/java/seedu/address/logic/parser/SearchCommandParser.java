@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.Page;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution. The keywords may be followed by a limit and page.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT, PREFIX_PAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT, PREFIX_PAGE);
+
+        String preamble = argMultimap.getPreamble().trim();
+        if (preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> keywords = Arrays.asList(preamble.split("\\s+"));
+        Optional<Page> page = ParserUtil.parsePage(argMultimap.getValue(PREFIX_LIMIT),
+                argMultimap.getValue(PREFIX_PAGE));
+        return page.isPresent() ? new SearchCommand(keywords, page.get()) : new SearchCommand(keywords);
+    }
+}
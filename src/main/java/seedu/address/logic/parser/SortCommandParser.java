@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.SortOrder;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_EMAIL, PREFIX_TAG);
+
+        List<SortOrder> sortOrders = new ArrayList<>();
+        addIfPresent(argMultimap, PREFIX_NAME, SortOrder.NAME, sortOrders);
+        addIfPresent(argMultimap, PREFIX_EMAIL, SortOrder.EMAIL, sortOrders);
+        addIfPresent(argMultimap, PREFIX_TAG, SortOrder.TAG, sortOrders);
+
+        if (!argMultimap.getPreamble().isEmpty() || sortOrders.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        return new SortCommand(sortOrders.isEmpty() ? SortOrder.INSERTION : sortOrders.get(0));
+    }
+
+    /**
+     * Adds {@code sortOrder} to {@code sortOrders} if {@code prefix} is present in {@code argMultimap}.
+     * @throws ParseException if the prefix is given a value or is repeated.
+     */
+    private static void addIfPresent(ArgumentMultimap argMultimap, Prefix prefix, SortOrder sortOrder,
+            List<SortOrder> sortOrders) throws ParseException {
+        List<String> values = argMultimap.getAllValues(prefix);
+        if (values.isEmpty()) {
+            return;
+        }
+        if (values.size() > 1 || !values.get(0).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        sortOrders.add(sortOrder);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.VerifyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new VerifyCommand object
+ */
+public class VerifyCommandParser implements Parser<VerifyCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the VerifyCommand
+     * and returns a VerifyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public VerifyCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new VerifyCommand();
+        }
+        if (!trimmedArgs.equals(VerifyCommand.CLEAR_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, VerifyCommand.MESSAGE_USAGE));
+        }
+        return new VerifyCommand(true);
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecord;
+import seedu.address.model.person.UniqueField;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -15,6 +22,8 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_DUPLICATE_RECORD = "Same person as a person stored before it";
+
     private final UniquePersonList persons;
 
     /*
@@ -31,25 +40,67 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * Takes time linear in the number of persons, like {@link #resetData(ReadOnlyAddressBook)}.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook of the persons described by {@code records}, in order. A record that is invalid, or that
+     * describes the same person as a record before it, is left out and added to {@code invalidRecords} instead.
+     */
+    public static AddressBook fromRecords(List<PersonRecord> records, List<InvalidPersonRecord> invalidRecords) {
+        requireAllNonNull(records, invalidRecords);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < records.size(); i++) {
+            PersonRecord record = records.get(i);
+            try {
+                Person person = record.toPerson();
+                if (addressBook.hasPerson(person)) {
+                    invalidRecords.add(new InvalidPersonRecord(i + 1, record, MESSAGE_DUPLICATE_RECORD));
+                } else {
+                    addressBook.addPerson(person);
+                }
+            } catch (IllegalValueException e) {
+                invalidRecords.add(new InvalidPersonRecord(i + 1, record, e.getMessage()));
+            }
+        }
+        return addressBook;
+    }
+
     //// list overwrite operations
 
     /**
      * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor persons sharing a unique field.
+     * Takes time linear in the number of persons, as the indexes of their names and unique fields are rebuilt; only
+     * {@link #getPersonSnapshot()} shares structure between versions of the address book.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Requires {@code fields} to be unique between the persons in the address book, and no other fields.
+     * The persons already in the address book must satisfy the requirement; otherwise it is not changed.
+     */
+    public void setUniqueFields(Set<UniqueField> fields) {
+        persons.setUniqueFields(fields);
+    }
+
+    /**
+     * Returns the fields that must be unique between the persons in the address book.
+     */
+    public Set<UniqueField> getUniqueFields() {
+        return persons.getUniqueFields();
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Takes time linear in the number of persons, like {@link #setPersons(List)}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
@@ -67,6 +118,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if the address book does not contain a person
+     * equal to it. Takes time logarithmic in the number of persons.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -75,6 +135,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +162,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Adds each of {@code persons} at the corresponding position of {@code indexes}, which must be in ascending order
+     * and refer to positions in the resulting person list, as a single change.
+     * The persons must not already exist in the address book.
+     */
+    public void addPersons(List<Integer> indexes, List<Person> persons) {
+        this.persons.addAll(indexes, persons);
+    }
+
+    /**
+     * Replaces each of {@code targets} with the corresponding person in {@code editedPersons}, as a single change.
+     * The targets must exist in the address book, and the edited persons must not have the same identity as each
+     * other or as another existing person in the address book.
+     */
+    public void replacePersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook}, as a single change.
+     * The keys must exist in the address book.
+     */
+    public void removePersons(List<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     //// util methods
 
     @Override
@@ -108,6 +202,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public PersistentList<Person> getPersonSnapshot() {
+        return persons.getSnapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,11 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.cache.CacheStatistics;
+import seedu.address.model.event.AddressBookListener;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.SortOrder;
+import seedu.address.model.search.ScoredPerson;
+import seedu.address.model.stats.AddressBookStatistics;
 
 /**
  * The API of the Model component.
@@ -14,6 +26,10 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** The stages that {@link #editPersons(Query, UnaryOperator)} and {@link #deletePersons(Query)} add to a plan. */
+    String STAGE_EDIT = "edit";
+    String STAGE_APPLY = "apply";
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -46,17 +62,35 @@ public interface Model {
 
     /**
      * Replaces address book data with the data in {@code addressBook}.
+     * The persons of a snapshot are kept in the undo history without copying, but the address book's own indexes and
+     * the query, sort and full-text indexes are rebuilt, so this and undoing it take time linear in the number of
+     * persons.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
-    /** Returns the AddressBook */
+    /**
+     * Returns the AddressBook as it is now, which later changes to the model do not affect, so that it can be read
+     * from any thread.
+     */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the AddressBook that is safe to read while other threads modify the model.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns an immutable list of the persons in the address book that satisfy {@code predicate}.
+     * Unlike {@link #updateFilteredPersonList(Predicate)}, this does not change the filtered person list.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> findPersons(Predicate<Person> predicate);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,12 +110,198 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Deletes the given persons as a single change, of which the filtered person list is notified once.
+     * The persons must all exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Deletes the persons matching {@code query} as a single change, finding them with the query planner while the
+     * address book is locked, so that no other change can come in between. Returns the plan used to find them, whose
+     * matches are the deleted persons, with the time taken to delete them.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan deletePersons(Query query);
+
+    /**
+     * Replaces each person in {@code targets} with the corresponding person in {@code editedPersons}, as a single
+     * change of which the filtered person list is notified once.
+     * The targets must exist in the address book, and the edited persons must not have the same identity as each
+     * other or as another existing person in the address book.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Replaces each person matching {@code query} with the result of {@code editor} as a single change, finding them
+     * with the query planner while the address book is locked, so that no other change can come in between. Persons
+     * that {@code editor} returns unchanged are left as they are. Returns the plan used to find the matching persons,
+     * with the time taken to edit them and to apply the edits.
+     * The edited persons must not have the same identity as each other or as another existing person.
+     * @throws NullPointerException if {@code query} or {@code editor} is null.
+     */
+    QueryPlan editPersons(Query query, UnaryOperator<Person> editor);
+
+    /**
+     * Saves the changes made to the address book since the last commit as a single undoable step.
+     *
+     * @return false if the step is larger than the undo history can hold, so that earlier steps can no longer be
+     *     undone.
+     */
+    boolean commitAddressBook();
+
+    /**
+     * Returns true if there is a step that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the address book to its state before the latest step.
+     * Any uncommitted changes are committed first.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state after the latest undone step.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns true if a transaction has been started and not yet committed or rolled back.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Starts a transaction. Until the transaction ends, all changes to the address book are grouped into a single
+     * undoable step.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, keeping all changes made during it as a single undoable step.
+     *
+     * @return false if the step is larger than the undo history can hold, so that earlier steps can no longer be
+     *     undone.
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    boolean commitTransaction();
+
+    /**
+     * Ends the current transaction, reverting all changes made during it.
+     *
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns an unmodifiable view of the filtered person list.
+     * The list changes with the model without taking its lock, so it must only be used by the thread that executes
+     * commands; other threads should use {@link #getDisplayedPersonList()} or {@link #getAddressBookSnapshot()}.
+     */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the filtered person list as shown to the user.
+     * This list only changes on the UI thread.
+     */
+    ObservableList<Person> getDisplayedPersonList();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, answering it from
+     * indexes where possible, and returns the plan that was used with the time taken by each stage.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    QueryPlan executeQuery(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show only {@code page} of the persons matching
+     * {@code predicate}, in the current sort order, and returns the plan that was used.
+     * Persons are only tested until the page is full, unless the matches are cached or can be found from an index.
+     * @throws NullPointerException if {@code predicate} or {@code page} is null.
+     */
+    QueryPlan executeQuery(Predicate<Person> predicate, Page page);
+
+    /**
+     * Returns true if the filtered person list is paged and there may be more persons to load.
+     */
+    boolean hasMorePersons();
+
+    /**
+     * Adds the next page of results to the filtered person list if it is paged, and returns the number of persons
+     * added.
+     */
+    int fetchMorePersons();
+
+    /**
+     * Returns words in the names of persons in the address book that are close to the name terms of
+     * {@code predicate}, closest first, to suggest corrections of misspelled names.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<String> suggestNameWords(Predicate<Person> predicate);
+
+    /**
+     * Ranks the persons by how well their name, tags, email and address match any of {@code keywords}, and shows
+     * only {@code page} of the ranked persons, best first, in the filtered person list. Persons matching none of
+     * the keywords are not shown. The ranking is kept as the shown persons are edited, until the list is filtered
+     * or sorted again.
+     * Returns the persons shown, with their relevance scores.
+     * @throws NullPointerException if {@code keywords} or {@code page} is null.
+     */
+    List<ScoredPerson> searchPersons(List<String> keywords, Page page);
+
+    /**
+     * Returns the order in which the filtered person list is sorted.
+     */
+    SortOrder getSortOrder();
+
+    /**
+     * Sorts the filtered person list in {@code sortOrder}. The order is kept as persons are added and edited.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void setSortOrder(SortOrder sortOrder);
+
+    /**
+     * Returns the hit and miss counters of the cache that holds the results of recent {@code find} queries.
+     */
+    CacheStatistics getQueryCacheStatistics();
+
+    /**
+     * Returns the stored persons that were left out of the address book when it was loaded, in the order stored.
+     */
+    List<InvalidPersonRecord> getInvalidRecords();
+
+    /**
+     * Replaces the stored persons that were left out of the address book when it was loaded with
+     * {@code invalidRecords}.
+     */
+    void setInvalidRecords(List<InvalidPersonRecord> invalidRecords);
+
+    /**
+     * Returns the number of persons in the address book, and how many of them have each tag and email domain.
+     */
+    AddressBookStatistics getAddressBookStatistics();
+
+    /**
+     * Registers {@code listener} to be notified synchronously, in order, of every change to the persons in the
+     * address book. The changes made by one model operation are delivered together.
+     */
+    void addAddressBookListener(AddressBookListener listener);
+
+    /**
+     * Stops notifying {@code listener} of changes to the address book.
+     */
+    void removeAddressBookListener(AddressBookListener listener);
 }
@@ -4,36 +4,163 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.BatchObservableList;
+import seedu.address.model.cache.CacheStatistics;
+import seedu.address.model.cache.QueryCache;
+import seedu.address.model.event.AddressBookEventBus;
+import seedu.address.model.event.AddressBookListener;
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.history.ChangeHistory;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniqueField;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.ResultWindow;
+import seedu.address.model.query.SortIndex;
+import seedu.address.model.query.SortOrder;
+import seedu.address.model.search.FullTextIndex;
+import seedu.address.model.search.ScoredPerson;
+import seedu.address.model.stats.AddressBookStatistics;
+import seedu.address.model.stats.StatisticsCounter;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * All address book operations are guarded by a {@code StampedLock}: reads that walk the address book or its indexes
+ * take the shared read lock, reads of a single field or of immutable state are first attempted optimistically and
+ * fall back to the read lock if a write intervened, and mutations take the exclusive write lock.
+ * Changes to the filtered person list are replayed onto a separate displayed list through {@code uiExecutor},
+ * so that UI listeners are only ever notified on the thread that {@code uiExecutor} runs on.
+ * <p>
+ * Queries are answered by a {@code QueryPlanner} from indexes over the address book where possible, and their
+ * results are kept in a {@code QueryCache}, so that repeating a query does not re-test every person.
+ * The filtered person list is a view of {@code orderedPersons}, which holds the persons in the current sort order
+ * and is updated from the persons touched by each change, using a {@code SortIndex} to avoid re-sorting.
+ * When results are paged, only the persons in the loaded pages of a {@code ResultWindow} are shown.
+ * Every change is also published as {@code AddressBookEvent}s to the listeners of an {@code AddressBookEventBus},
+ * batched so that each listener is notified once per write; counts of persons by tag and email domain are kept by a
+ * {@code StatisticsCounter} listening in this way, as is the {@code FullTextIndex} used to rank persons by relevance.
+ * Ranked results, of a full-text search or of a query matching names by sound, are shown best first by temporarily
+ * holding only them in {@code orderedPersons}.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_TRANSACTION_IN_PROGRESS = "A transaction is already in progress";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int QUERY_CACHE_CAPACITY = 32;
+    private static final String STAGE_CACHE = "cache";
+    private static final String STAGE_DISPLAY = "display";
+    private static final String STAGE_PAGE = "page";
+    private static final String STAGE_RANK = "rank";
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private List<InvalidPersonRecord> invalidRecords = List.of();
     private final FilteredList<Person> filteredPersons;
+    private final ChangeHistory history;
+    private boolean inTransaction;
+    private final QueryCache queryCache = new QueryCache(QUERY_CACHE_CAPACITY);
+    private final QueryPlanner queryPlanner = new QueryPlanner();
+    private final StatisticsCounter statisticsCounter = new StatisticsCounter();
+    private final FullTextIndex fullTextIndex = new FullTextIndex();
+    private final AddressBookEventBus eventBus = new AddressBookEventBus();
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private final SortIndex sortIndex = new SortIndex();
+    private final BatchObservableList<Person> orderedPersons;
+    private SortOrder sortOrder = SortOrder.INSERTION;
+    /** True if {@code orderedPersons} holds the results of a ranked search instead of every person. */
+    private boolean isRankedOrder;
+    private ResultWindow window;
+    /** The persons in the loaded pages of {@code window}, in display order. */
+    private final BatchObservableList<Person> windowPersons = new BatchObservableList<>();
+    /** The persons matching a filter answered by the query planner, in display order. */
+    private final BatchObservableList<Person> matchedPersons = new BatchObservableList<>();
+    /**
+     * The list the user is shown: {@code windowPersons} while a query is paged, {@code matchedPersons} while a filter
+     * answered by the query planner is applied, or else {@code filteredPersons}.
+     */
+    private ObservableList<Person> shownPersons;
+
+    private final StampedLock lock = new StampedLock();
+    private final Executor uiExecutor;
+    private final Queue<Runnable> pendingUiUpdates = new ConcurrentLinkedQueue<>();
+    private final BatchObservableList<Person> displayedPersons;
+    private final ObservableList<Person> unmodifiableDisplayedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * UI notifications are delivered on the thread that {@code uiExecutor} runs its tasks on.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Executor uiExecutor) {
+        requireAllNonNull(addressBook, userPrefs, uiExecutor);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.uiExecutor = uiExecutor;
+        applyUniqueFields();
+        history = new ChangeHistory(this.userPrefs.getUndoHistoryCapacity());
+        AddressBookChange initialChange =
+                AddressBookChange.reset(Collections.emptyList(), this.addressBook.getPersonSnapshot());
+        queryPlanner.update(initialChange);
+        eventBus.addListener(statisticsCounter);
+        eventBus.addListener(fullTextIndex);
+        eventBus.publish(initialChange);
+        orderedPersons = new BatchObservableList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(orderedPersons);
+        orderedPersons.addListener((ListChangeListener<Person>) change -> {
+            if (window != null) {
+                window.onOrderedPersonsChanged(change);
+            }
+        });
+        shownPersons = filteredPersons;
+        displayedPersons = new BatchObservableList<>(filteredPersons);
+        unmodifiableDisplayedPersons = FXCollections.unmodifiableObservableList(displayedPersons);
+        filteredPersons.addListener(this::enqueueUiUpdate);
+        windowPersons.addListener(this::enqueueUiUpdate);
+        matchedPersons.addListener(this::enqueueUiUpdate);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * UI notifications are delivered synchronously on the thread that modified the model.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Runnable::run);
     }
 
     public ModelManager() {
@@ -45,7 +172,38 @@ public class ModelManager implements Model {
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
-        this.userPrefs.resetData(userPrefs);
+        write(() -> {
+            this.userPrefs.resetData(userPrefs);
+            history.setCapacity(this.userPrefs.getUndoHistoryCapacity());
+            applyUniqueFields();
+        });
+    }
+
+    /**
+     * Requires the fields that the user prefs mark as unique to be unique in the address book. A field that the
+     * address book already has duplicates of is left unenforced, with a warning naming one of the duplicates.
+     */
+    private void applyUniqueFields() {
+        Set<UniqueField> uniqueFields = EnumSet.noneOf(UniqueField.class);
+        if (userPrefs.isPhoneUnique()) {
+            uniqueFields.add(UniqueField.PHONE);
+        }
+        if (userPrefs.isEmailUnique()) {
+            uniqueFields.add(UniqueField.EMAIL);
+        }
+
+        Set<UniqueField> enforcedFields = EnumSet.noneOf(UniqueField.class);
+        for (UniqueField field : uniqueFields) {
+            enforcedFields.add(field);
+            try {
+                addressBook.setUniqueFields(enforcedFields);
+            } catch (DuplicateFieldException e) {
+                logger.warning("Not requiring unique " + field.getDescription() + "s, as the address book has "
+                        + "duplicates: " + e.getMessage());
+                enforcedFields.remove(field);
+            }
+        }
+        addressBook.setUniqueFields(enforcedFields);
     }
 
     @Override
@@ -79,36 +237,441 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        requireNonNull(addressBook);
+        write(() -> {
+            AddressBookChange change =
+                    AddressBookChange.reset(this.addressBook.getPersonSnapshot(), addressBook.getPersonSnapshot());
+            applyChange(change);
+            history.record(change);
+        });
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        // the address book itself is changed under the lock, so callers only ever see a version of it
+        return getAddressBookSnapshot();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return new AddressBookSnapshot(read(addressBook::getPersonSnapshot));
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return read(() -> addressBook.hasPerson(person));
+    }
+
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return Collections.unmodifiableList(read(() -> addressBook.getPersonList().stream()
+                .filter(predicate)
+                .collect(Collectors.toList())));
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        write(() -> {
+            AddressBookChange change = AddressBookChange.remove(addressBook.indexOf(target), target);
+            applyChange(change);
+            history.record(change);
+        });
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        write(() -> {
+            AddressBookChange change = AddressBookChange.add(addressBook.getPersonList().size(), person);
+            applyChange(change);
+            history.record(change);
+            setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        });
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        write(() -> {
+            AddressBookChange change =
+                    AddressBookChange.set(addressBook.indexOf(target), target, editedPerson);
+            applyChange(change);
+            history.record(change);
+        });
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireAllNonNull(targets);
+        write(() -> removePersons(targets));
+    }
+
+    @Override
+    public QueryPlan deletePersons(Query query) {
+        requireNonNull(query);
+        List<QueryPlan> plan = new ArrayList<>(1);
+        write(() -> {
+            QueryPlan matchesPlan = queryPlanner.execute(query, addressBook.getPersonList());
+            long startTime = System.nanoTime();
+            if (!matchesPlan.getMatches().isEmpty()) {
+                removePersons(matchesPlan.getMatches());
+            }
+            plan.add(matchesPlan.withStage(STAGE_APPLY, System.nanoTime() - startTime));
+        });
+        return plan.get(0);
+    }
+
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        write(() -> replacePersons(targets, editedPersons));
+    }
+
+    @Override
+    public QueryPlan editPersons(Query query, UnaryOperator<Person> editor) {
+        requireAllNonNull(query, editor);
+        List<QueryPlan> plan = new ArrayList<>(1);
+        write(() -> {
+            QueryPlan matchesPlan = queryPlanner.execute(query, addressBook.getPersonList());
+            long startTime = System.nanoTime();
+            List<Person> targets = new ArrayList<>();
+            List<Person> editedPersons = new ArrayList<>();
+            for (Person person : matchesPlan.getMatches()) {
+                Person editedPerson = editor.apply(person);
+                if (!editedPerson.equals(person)) {
+                    targets.add(person);
+                    editedPersons.add(editedPerson);
+                }
+            }
+            long editedTime = System.nanoTime();
+            if (!targets.isEmpty()) {
+                replacePersons(targets, editedPersons);
+            }
+            plan.add(matchesPlan.withStage(STAGE_EDIT, editedTime - startTime)
+                    .withStage(STAGE_APPLY, System.nanoTime() - editedTime));
+        });
+        return plan.get(0);
+    }
+
+    /**
+     * Removes {@code targets} from the address book as a single change, recorded in the history.
+     */
+    private void removePersons(Collection<Person> targets) {
+        List<Integer> indexes = indexesOf(targets);
+        Collections.sort(indexes);
+        List<Person> persons = indexes.stream().map(addressBook.getPersonList()::get).collect(Collectors.toList());
+        AddressBookChange change = AddressBookChange.removeAll(indexes, persons);
+        applyChange(change);
+        history.record(change);
+    }
+
+    /**
+     * Replaces {@code targets} with {@code editedPersons} as a single change, recorded in the history.
+     */
+    private void replacePersons(List<Person> targets, List<Person> editedPersons) {
+        AddressBookChange change = AddressBookChange.setAll(indexesOf(targets), targets, editedPersons);
+        applyChange(change);
+        history.record(change);
+    }
+
+    /**
+     * Returns the positions of {@code persons} in the address book, in the order they are given.
+     * @throws PersonNotFoundException if any of the persons is not in the address book.
+     */
+    private List<Integer> indexesOf(Collection<Person> persons) {
+        List<Integer> indexes = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            int index = addressBook.indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            indexes.add(index);
+        }
+        return indexes;
+    }
+
+    /**
+     * Applies {@code change} to the address book, the query cache and the indexes of the query planner, and
+     * publishes it to the address book listeners.
+     * The cache is updated first, as the filtered list re-tests the persons touched as soon as the book changes.
+     */
+    private void applyChange(AddressBookChange change) {
+        queryCache.update(change);
+        if (window != null) {
+            window.update(change);
+        }
+        boolean isUpdatingMatches = shownPersons == matchedPersons && change.getType() != AddressBookChange.Type.RESET;
+        if (isUpdatingMatches) {
+            // the touched persons are located while their positions in display order are those before the change
+            removeMatchedPersons(change.getOldPersons());
+        }
+        try {
+            change.apply(addressBook);
+        } catch (RuntimeException e) {
+            // the rejected change may have left persons that are not in the address book in the cache
+            queryCache.clear();
+            setFilterPredicate(filterPredicate);
+            throw e;
+        }
+
+        queryPlanner.update(change);
+        eventBus.publish(change);
+        updateOrderedPersons(change);
+        if (isUpdatingMatches) {
+            addMatchedPersons(change.getNewPersons());
+        }
+        if (change.getType() == AddressBookChange.Type.RESET) {
+            setFilterPredicate(filterPredicate);
+        }
+    }
+
+    /**
+     * Removes those of {@code persons} that are in {@code matchedPersons}, locating them by binary search.
+     */
+    private void removeMatchedPersons(List<Person> persons) {
+        Comparator<Person> comparator = getDisplayComparator();
+        matchedPersons.runBatch(() -> {
+            for (Person person : persons) {
+                int position = Collections.binarySearch(matchedPersons, person, comparator);
+                if (position >= 0) {
+                    matchedPersons.remove(position);
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds those of {@code persons} that match the current filter to {@code matchedPersons}, in display order.
+     */
+    private void addMatchedPersons(List<Person> persons) {
+        Comparator<Person> comparator = getDisplayComparator();
+        matchedPersons.runBatch(() -> {
+            for (Person person : persons) {
+                if (filterPredicate.test(person)) {
+                    matchedPersons.add(-Collections.binarySearch(matchedPersons, person, comparator) - 1, person);
+                }
+            }
+        });
+    }
+
+    /**
+     * Updates {@code orderedPersons} and the sort index to reflect {@code change}, which has been applied to the
+     * address book, notifying the filtered person list once. Outside of insertion order, touched persons are located
+     * by binary search in the sorted list.
+     */
+    private void updateOrderedPersons(AddressBookChange change) {
+        orderedPersons.runBatch(() -> {
+            if (isRankedOrder) {
+                replayOnRankedPersons(change);
+            } else {
+                replayOnOrderedPersons(change);
+            }
+        });
+    }
+
+    /**
+     * Keeps the ranked results in {@code orderedPersons} in place as they are edited, and drops those deleted.
+     * Added persons are not ranked, and a reset ends the ranking when the list is filtered again.
+     */
+    private void replayOnRankedPersons(AddressBookChange change) {
+        sortIndex.update(change);
+        if (change.getType() == AddressBookChange.Type.RESET) {
+            return;
+        }
+
+        for (int i = 0; i < change.getOldPersons().size(); i++) {
+            int position = orderedPersons.indexOf(change.getOldPersons().get(i));
+            if (position == -1) {
+                continue;
+            }
+            if (change.getType() == AddressBookChange.Type.SET) {
+                orderedPersons.set(position, change.getNewPersons().get(i));
+            } else {
+                orderedPersons.remove(position);
+            }
+        }
+    }
+
+    private void replayOnOrderedPersons(AddressBookChange change) {
+        List<Integer> indexes = change.getIndexes();
+        if (sortOrder == SortOrder.INSERTION) {
+            sortIndex.update(change);
+            switch (change.getType()) {
+            case ADD:
+                for (int i = 0; i < indexes.size(); i++) {
+                    orderedPersons.add(indexes.get(i), change.getNewPersons().get(i));
+                }
+                break;
+            case REMOVE:
+                for (int i = indexes.size() - 1; i >= 0; i--) {
+                    orderedPersons.remove((int) indexes.get(i));
+                }
+                break;
+            case SET:
+                for (int i = 0; i < indexes.size(); i++) {
+                    orderedPersons.set(indexes.get(i), change.getNewPersons().get(i));
+                }
+                break;
+            default:
+                orderedPersons.setAll(addressBook.getPersonList());
+            }
+            return;
+        }
+
+        if (change.getType() == AddressBookChange.Type.RESET) {
+            sortIndex.update(change);
+            orderedPersons.setAll(sortIndex.getPersons(sortOrder, addressBook.getPersonList()));
+            return;
+        }
+
+        Comparator<Person> comparator = sortIndex.getComparator(sortOrder);
+        for (Person person : change.getOldPersons()) {
+            orderedPersons.remove(Collections.binarySearch(orderedPersons, person, comparator));
+        }
+        sortIndex.update(change);
+        for (Person person : change.getNewPersons()) {
+            orderedPersons.add(-Collections.binarySearch(orderedPersons, person, comparator) - 1, person);
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean commitAddressBook() {
+        AtomicBoolean isRetained = new AtomicBoolean(true);
+        write(() -> {
+            if (!inTransaction) {
+                isRetained.set(history.commit());
+            }
+        });
+        return isRetained.get();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return read(() -> history.canUndo() || history.hasPendingChanges());
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return read(() -> history.canRedo() && !history.hasPendingChanges());
+    }
+
+    @Override
+    public void undoAddressBook() {
+        write(() -> {
+            history.commit();
+            history.undo().forEach(change -> applyChange(change.inverse()));
+            setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        });
+    }
+
+    @Override
+    public void redoAddressBook() {
+        write(() -> {
+            history.redo().forEach(this::applyChange);
+            setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        });
+    }
+
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public boolean isInTransaction() {
+        return readOptimistically(() -> inTransaction);
+    }
+
+    @Override
+    public void beginTransaction() {
+        write(() -> {
+            if (inTransaction) {
+                throw new IllegalStateException(MESSAGE_TRANSACTION_IN_PROGRESS);
+            }
+            history.commit();
+            inTransaction = true;
+        });
+    }
+
+    @Override
+    public boolean commitTransaction() {
+        AtomicBoolean isRetained = new AtomicBoolean(true);
+        write(() -> {
+            requireTransaction();
+            inTransaction = false;
+            isRetained.set(history.commit());
+        });
+        return isRetained.get();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        write(() -> {
+            requireTransaction();
+            inTransaction = false;
+            List<AddressBookChange> changes = history.discardPendingChanges();
+            Collections.reverse(changes);
+            changes.forEach(change -> applyChange(change.inverse()));
+        });
+    }
+
+    /**
+     * Throws an {@code IllegalStateException} unless a transaction is in progress.
+     */
+    private void requireTransaction() {
+        if (!inTransaction) {
+            throw new IllegalStateException(MESSAGE_NO_TRANSACTION);
+        }
+    }
+
+    //=========== Locking ====================================================================================
+
+    /**
+     * Evaluates {@code reader} against the address book under the shared read lock.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Evaluates {@code reader} without blocking writers if possible, retrying it under the shared read lock if a
+     * write happened concurrently. {@code reader} must only read single fields or immutable state, as a concurrent
+     * write can leave a mutable collection in a state that reading does not survive.
+     */
+    private <T> T readOptimistically(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            T result = reader.get();
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        return read(reader);
+    }
+
+    /**
+     * Runs {@code writer} while holding the exclusive write lock, then delivers the resulting UI updates.
+     * Address book listeners are notified of the changes made by {@code writer} before the lock is released.
+     */
+    private void write(Runnable writer) {
+        long stamp = lock.writeLock();
+        try {
+            eventBus.beginBatch();
+            try {
+                writer.run();
+            } finally {
+                eventBus.endBatch();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        uiExecutor.execute(this::drainUiUpdates);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -119,13 +682,333 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return readOptimistically(() -> shownPersons);
+    }
+
+    @Override
+    public ObservableList<Person> getDisplayedPersonList() {
+        return unmodifiableDisplayedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        write(() -> setFilterPredicate(predicate));
+    }
+
+    @Override
+    public QueryPlan executeQuery(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        List<QueryPlan> plan = new ArrayList<>(1);
+        write(() -> {
+            endRankedOrder();
+            filterPredicate = predicate;
+            window = null;
+            if (QueryPlanner.isPlannable(predicate)) {
+                plan.add(filterByPlan(predicate, true));
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            filteredPersons.setPredicate(predicate);
+            showPersons(filteredPersons);
+            plan.add(new QueryPlan(QueryPlan.STRATEGY_SCAN, predicate.toString(), addressBook.getPersonList().size(),
+                    new HashSet<>(filteredPersons), Map.of(STAGE_DISPLAY, System.nanoTime() - startTime)));
+        });
+        return plan.get(0);
+    }
+
+    @Override
+    public QueryPlan executeQuery(Predicate<Person> predicate, Page page) {
+        requireAllNonNull(predicate, page);
+        List<QueryPlan> plan = new ArrayList<>(1);
+        write(() -> {
+            endRankedOrder();
+            filterPredicate = predicate;
+            long startTime = System.nanoTime();
+            QueryPlan matchesPlan = null;
+            if (QueryPlanner.isPlannable(predicate)) {
+                Set<Person> cachedMatches = queryCache.get(predicate);
+                if (cachedMatches != null) {
+                    matchesPlan = planFromCache(cachedMatches, startTime);
+                } else if (queryPlanner.hasIndexFor(predicate)) {
+                    matchesPlan = planFromIndex(predicate);
+                }
+            }
+
+            // without an index or cached results, stop testing persons as soon as the page is full
+            Predicate<Person> test = matchesPlan == null ? predicate : matchesPlan.getMatches()::contains;
+            long pageStartTime = System.nanoTime();
+            windowPersons.runBatch(() -> {
+                window = new ResultWindow(test, page, windowPersons);
+                window.fetchNextPage(orderedPersons);
+            });
+            long pageNanos = System.nanoTime() - pageStartTime;
+            QueryPlan pagePlan = matchesPlan != null
+                    ? matchesPlan.withStage(STAGE_PAGE, pageNanos)
+                    : new QueryPlan(QueryPlan.STRATEGY_TOP_K, predicate.toString(), window.getScannedCount(),
+                            window.getPersons(), Map.of(STAGE_PAGE, pageNanos));
+
+            // the loaded persons are shown as they are, without testing every person in the address book again
+            long displayStartTime = System.nanoTime();
+            showPersons(windowPersons);
+            plan.add(pagePlan.withStage(STAGE_DISPLAY, System.nanoTime() - displayStartTime));
+        });
+        return plan.get(0);
+    }
+
+    @Override
+    public boolean hasMorePersons() {
+        return read(() -> window != null && window.hasMore(orderedPersons));
+    }
+
+    @Override
+    public int fetchMorePersons() {
+        int[] added = new int[1];
+        write(() -> {
+            if (window != null) {
+                windowPersons.runBatch(() -> added[0] = window.fetchNextPage(orderedPersons));
+            }
+        });
+        return added[0];
+    }
+
+    /**
+     * Filters the person list by {@code predicate}, ending any paging of the results.
+     */
+    private void setFilterPredicate(Predicate<Person> predicate) {
+        endRankedOrder();
+        filterPredicate = predicate;
+        window = null;
+        if (QueryPlanner.isPlannable(predicate)) {
+            filterByPlan(predicate, false);
+            return;
+        }
         filteredPersons.setPredicate(predicate);
+        showPersons(filteredPersons);
+    }
+
+    /**
+     * Filters the person list by {@code predicate}, which the query planner must understand, using the query cache
+     * or the indexes, and returns the plan used to do so. The cached results of the current predicate are never
+     * evicted while it is in use, as it is always the most recently looked up entry.
+     * If {@code isRankable} is true and the predicate matches names by sound, the matches are shown closest first.
+     * Otherwise they are shown in display order, which is found by sorting the matches instead of testing every
+     * person in the address book against them.
+     */
+    private QueryPlan filterByPlan(Predicate<Person> predicate, boolean isRankable) {
+        long startTime = System.nanoTime();
+        Set<Person> cachedMatches = queryCache.get(predicate);
+        QueryPlan plan = cachedMatches != null ? planFromCache(cachedMatches, startTime) : planFromIndex(predicate);
+
+        long rankStartTime = System.nanoTime();
+        Optional<List<Person>> ranked = isRankable
+                ? queryPlanner.rankBySound(predicate, plan.getMatches())
+                : Optional.empty();
+        if (ranked.isPresent()) {
+            plan = plan.withStage(STAGE_RANK, System.nanoTime() - rankStartTime);
+        }
+
+        long displayStartTime = System.nanoTime();
+        if (ranked.isPresent()) {
+            showRankedPersons(ranked.get());
+        } else {
+            showMatchedPersons(plan.getMatches());
+        }
+        return plan.withStage(STAGE_DISPLAY, System.nanoTime() - displayStartTime);
+    }
+
+    /**
+     * Shows {@code matches}, sorted in display order, until the list is filtered or sorted again.
+     */
+    private void showMatchedPersons(Collection<Person> matches) {
+        List<Person> sortedMatches = new ArrayList<>(matches);
+        sortedMatches.sort(getDisplayComparator());
+        matchedPersons.setAll(sortedMatches);
+        showPersons(matchedPersons);
+    }
+
+    /**
+     * Returns a comparator that orders the persons in the address book as {@code orderedPersons} does, outside of a
+     * ranked order. In insertion order, persons are compared by their positions in the address book.
+     */
+    private Comparator<Person> getDisplayComparator() {
+        return sortOrder == SortOrder.INSERTION
+                ? Comparator.comparingInt(addressBook::indexOf)
+                : sortIndex.getComparator(sortOrder);
+    }
+
+    private QueryPlan planFromCache(Set<Person> cachedMatches, long startTime) {
+        return new QueryPlan(QueryPlan.STRATEGY_CACHE, QueryPlan.RESIDUAL_NONE, cachedMatches.size(), cachedMatches,
+                Map.of(STAGE_CACHE, System.nanoTime() - startTime));
+    }
+
+    /**
+     * Answers {@code predicate} with the query planner and caches the results.
+     */
+    private QueryPlan planFromIndex(Predicate<Person> predicate) {
+        QueryPlan plan = queryPlanner.execute(predicate, addressBook.getPersonList());
+        queryCache.put(predicate, plan.getMatches());
+        return plan;
+    }
+
+    @Override
+    public List<String> suggestNameWords(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return read(() -> queryPlanner.suggestNameWords(predicate));
+    }
+
+    @Override
+    public List<ScoredPerson> searchPersons(List<String> keywords, Page page) {
+        requireAllNonNull(keywords, page);
+        List<ScoredPerson> pageMatches = new ArrayList<>();
+        write(() -> {
+            int limit = (int) Math.min(page.getOffset() + page.getLimit(), Integer.MAX_VALUE);
+            List<ScoredPerson> matches = fullTextIndex.search(keywords, limit);
+            pageMatches.addAll(matches.subList((int) Math.min(page.getOffset(), matches.size()), matches.size()));
+
+            showRankedPersons(pageMatches.stream().map(ScoredPerson::getPerson).collect(Collectors.toList()));
+        });
+        return Collections.unmodifiableList(pageMatches);
+    }
+
+    /**
+     * Shows only {@code rankedPersons}, in the given order, until the list is filtered or sorted again.
+     */
+    private void showRankedPersons(List<Person> rankedPersons) {
+        filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+        window = null;
+        isRankedOrder = true;
+        // replacing the persons before showing them all avoids re-testing every person in the address book
+        orderedPersons.setAll(rankedPersons);
+        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        showPersons(filteredPersons);
+    }
+
+    /**
+     * Puts every person back into {@code orderedPersons}, in the current sort order, if it holds ranked results.
+     */
+    private void endRankedOrder() {
+        if (isRankedOrder) {
+            isRankedOrder = false;
+            orderedPersons.setAll(getSortedPersons());
+        }
+    }
+
+    private List<Person> getSortedPersons() {
+        return sortOrder == SortOrder.INSERTION
+                ? addressBook.getPersonList()
+                : sortIndex.getPersons(sortOrder, addressBook.getPersonList());
+    }
+
+    @Override
+    public SortOrder getSortOrder() {
+        return readOptimistically(() -> sortOrder);
+    }
+
+    @Override
+    public void setSortOrder(SortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        write(() -> {
+            this.sortOrder = sortOrder;
+            isRankedOrder = false;
+            orderedPersons.setAll(getSortedPersons());
+            if (window != null) {
+                windowPersons.runBatch(() -> window.reload(orderedPersons));
+            }
+            if (shownPersons == matchedPersons) {
+                showMatchedPersons(new ArrayList<>(matchedPersons));
+            }
+        });
+    }
+
+    @Override
+    public CacheStatistics getQueryCacheStatistics() {
+        return read(queryCache::getStatistics);
+    }
+
+    @Override
+    public List<InvalidPersonRecord> getInvalidRecords() {
+        return readOptimistically(() -> invalidRecords);
+    }
+
+    @Override
+    public void setInvalidRecords(List<InvalidPersonRecord> invalidRecords) {
+        requireNonNull(invalidRecords);
+        write(() -> this.invalidRecords = List.copyOf(invalidRecords));
+    }
+
+    @Override
+    public AddressBookStatistics getAddressBookStatistics() {
+        return read(statisticsCounter::getStatistics);
+    }
+
+    @Override
+    public void addAddressBookListener(AddressBookListener listener) {
+        requireNonNull(listener);
+        write(() -> eventBus.addListener(listener));
+    }
+
+    @Override
+    public void removeAddressBookListener(AddressBookListener listener) {
+        requireNonNull(listener);
+        write(() -> eventBus.removeListener(listener));
+    }
+
+    /**
+     * Shows {@code persons}, which is {@code filteredPersons}, {@code windowPersons} or {@code matchedPersons}, to the
+     * user, replacing the contents of {@code displayedPersons} with them if another list was shown.
+     */
+    private void showPersons(ObservableList<Person> persons) {
+        if (shownPersons == persons) {
+            return;
+        }
+
+        shownPersons = persons;
+        List<Person> shown = new ArrayList<>(persons);
+        pendingUiUpdates.add(() -> displayedPersons.setAll(shown));
+        if (persons != windowPersons) {
+            windowPersons.clear();
+        }
+        if (persons != matchedPersons) {
+            matchedPersons.clear();
+        }
+    }
+
+    /**
+     * Records {@code change} so that it can be replayed onto {@code displayedPersons}, if it is a change to the list
+     * that is shown. Called while the write lock is held, so updates are queued in the same order as the writes.
+     */
+    private void enqueueUiUpdate(ListChangeListener.Change<? extends Person> change) {
+        if (change.getList() != shownPersons) {
+            return;
+        }
+        while (change.next()) {
+            int from = change.getFrom();
+            // a permutation is replayed as a replacement of the permuted range
+            int removedSize = change.wasPermutated() ? change.getTo() - from : change.getRemovedSize();
+            List<Person> added = change.wasPermutated()
+                    ? new ArrayList<>(change.getList().subList(from, change.getTo()))
+                    : new ArrayList<>(change.getAddedSubList());
+            pendingUiUpdates.add(() -> {
+                displayedPersons.remove(from, from + removedSize);
+                displayedPersons.addAll(from, added);
+            });
+        }
+    }
+
+    /**
+     * Applies all queued updates to {@code displayedPersons} in order.
+     */
+    private void drainUiUpdates() {
+        synchronized (pendingUiUpdates) {
+            displayedPersons.runBatch(() -> {
+                Runnable update;
+                while ((update = pendingUiUpdates.poll()) != null) {
+                    update.run();
+                }
+            });
+        }
     }
 
     @Override
@@ -142,7 +1025,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && shownPersons.equals(otherModelManager.shownPersons);
     }
 
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +15,13 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the persons list as an immutable list that later changes to the address book do not affect.
+     * An address book that keeps its persons in a {@link PersistentList} returns it without copying; copying the
+     * address book itself still takes time linear in the number of persons.
+     */
+    default PersistentList<Person> getPersonSnapshot() {
+        return PersistentList.copyOf(getPersonList());
+    }
+
 }
@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getUndoHistoryCapacity();
+
+    boolean isPhoneUnique();
+
+    boolean isEmailUnique();
+
+    boolean isLenientLoading();
+
 }
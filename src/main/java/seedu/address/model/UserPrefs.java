@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.ChangeHistory;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int undoHistoryCapacity = 100000;
+    private boolean isPhoneUnique = false;
+    private boolean isEmailUnique = false;
+    private boolean isLenientLoading = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryCapacity(newUserPrefs.getUndoHistoryCapacity());
+        setPhoneUnique(newUserPrefs.isPhoneUnique());
+        setEmailUnique(newUserPrefs.isEmailUnique());
+        setLenientLoading(newUserPrefs.isLenientLoading());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,52 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryCapacity() {
+        return undoHistoryCapacity;
+    }
+
+    /**
+     * Sets the maximum number of persons that the undo history may retain.
+     */
+    public void setUndoHistoryCapacity(int undoHistoryCapacity) {
+        checkArgument(undoHistoryCapacity >= 0, ChangeHistory.MESSAGE_CAPACITY_CONSTRAINTS);
+        this.undoHistoryCapacity = undoHistoryCapacity;
+    }
+
+    public boolean isPhoneUnique() {
+        return isPhoneUnique;
+    }
+
+    /**
+     * Sets whether no two persons may have the same phone number.
+     */
+    public void setPhoneUnique(boolean isPhoneUnique) {
+        this.isPhoneUnique = isPhoneUnique;
+    }
+
+    public boolean isEmailUnique() {
+        return isEmailUnique;
+    }
+
+    /**
+     * Sets whether no two persons may have the same email, ignoring case.
+     */
+    public void setEmailUnique(boolean isEmailUnique) {
+        this.isEmailUnique = isEmailUnique;
+    }
+
+    public boolean isLenientLoading() {
+        return isLenientLoading;
+    }
+
+    /**
+     * Sets whether persons stored with invalid details are left out when the app starts, so that the rest of the
+     * address book is still loaded, which takes effect the next time the app starts.
+     */
+    public void setLenientLoading(boolean isLenientLoading) {
+        this.isLenientLoading = isLenientLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +125,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryCapacity == otherUserPrefs.undoHistoryCapacity
+                && isPhoneUnique == otherUserPrefs.isPhoneUnique
+                && isEmailUnique == otherUserPrefs.isEmailUnique
+                && isLenientLoading == otherUserPrefs.isLenientLoading;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryCapacity, isPhoneUnique, isEmailUnique,
+                isLenientLoading);
     }
 
     @Override
@@ -82,6 +143,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history capacity : " + undoHistoryCapacity);
+        sb.append("\nUnique phone numbers : " + isPhoneUnique);
+        sb.append("\nUnique emails : " + isEmailUnique);
+        sb.append("\nLenient loading : " + isLenientLoading);
         return sb.toString();
     }
 
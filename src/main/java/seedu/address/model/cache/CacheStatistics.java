@@ -0,0 +1,89 @@
+package seedu.address.model.cache;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable snapshot of the counters of a cache, such as a {@code QueryCache}.
+ */
+public class CacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int capacity;
+
+    /**
+     * Creates a snapshot with the given counters.
+     */
+    public CacheStatistics(long hits, long misses, long evictions, int size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries removed to make room for newer ones.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of entries currently cached.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CacheStatistics)) {
+            return false;
+        }
+
+        CacheStatistics otherStatistics = (CacheStatistics) other;
+        return hits == otherStatistics.hits
+                && misses == otherStatistics.misses
+                && evictions == otherStatistics.evictions
+                && size == otherStatistics.size
+                && capacity == otherStatistics.capacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, evictions, size, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("hits", hits)
+                .add("misses", misses)
+                .add("evictions", evictions)
+                .add("size", size)
+                .add("capacity", capacity)
+                .toString();
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.cache;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * A bounded, least-recently-used cache of the persons matched by query predicates.
+ * <p>
+ * Entries are kept exact as the address book changes: every change is passed to {@link #update(AddressBookChange)},
+ * which re-tests only the persons touched by the change against each cached predicate.
+ * Predicates are used as keys, so they must implement {@code equals} and {@code hashCode}.
+ */
+public class QueryCache {
+
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "Cache capacity must be positive";
+
+    private final int capacity;
+    private final Map<Predicate<Person>, Set<Person>> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty {@code QueryCache} that holds the results of at most {@code capacity} predicates.
+     */
+    public QueryCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Set<Person>> eldest) {
+                boolean isFull = size() > QueryCache.this.capacity;
+                if (isFull) {
+                    evictions++;
+                }
+                return isFull;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached matches of {@code predicate}, or null if they are not cached.
+     */
+    public Set<Person> get(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = entries.get(predicate);
+        if (matches == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Caches {@code matches} as the persons in the address book that match {@code predicate}, evicting the least
+     * recently used entry if the cache is full. The cache takes ownership of {@code matches}.
+     */
+    public void put(Predicate<Person> predicate, Set<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        entries.put(predicate, matches);
+    }
+
+    /**
+     * Updates the cached results to reflect {@code change}.
+     * Only the persons touched by {@code change} are tested; a reset of the address book clears the cache.
+     */
+    public void update(AddressBookChange change) {
+        requireNonNull(change);
+        if (change.getType() == AddressBookChange.Type.RESET) {
+            entries.clear();
+            return;
+        }
+
+        for (Map.Entry<Predicate<Person>, Set<Person>> entry : entries.entrySet()) {
+            Set<Person> matches = entry.getValue();
+            // Set.removeAll scans the argument with contains when it is not smaller than the set
+            change.getOldPersons().forEach(matches::remove);
+            for (Person person : change.getNewPersons()) {
+                if (entry.getKey().test(person)) {
+                    matches.add(person);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results. The counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the current hit, miss and eviction counters and occupancy of this cache.
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits, misses, evictions, entries.size(), capacity);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.dedupe;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A group of persons that are likely to be duplicates of each other, with the evidence that links them.
+ */
+public class DuplicateCluster {
+
+    /**
+     * A reason for two persons to be considered duplicates.
+     */
+    public enum Evidence {
+        SAME_NAME("same name"),
+        SAME_PHONE("same phone"),
+        SAME_EMAIL_USER("same email user"),
+        SIMILAR_DETAILS("similar name and address");
+
+        private final String description;
+
+        Evidence(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final List<Person> persons;
+    private final double score;
+    private final Set<Evidence> evidence;
+
+    /**
+     * Creates a cluster of {@code persons}, linked by {@code evidence} with the given {@code score}.
+     */
+    public DuplicateCluster(List<Person> persons, double score, Set<Evidence> evidence) {
+        requireAllNonNull(persons, evidence);
+        this.persons = List.copyOf(persons);
+        this.score = score;
+        this.evidence = evidence.isEmpty() ? EnumSet.noneOf(Evidence.class) : EnumSet.copyOf(evidence);
+    }
+
+    /**
+     * Returns the persons in this cluster, in address book order.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns how likely the persons are to be duplicates, from 0 to 1.
+     * This is the highest score of any two persons in the cluster.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    public Set<Evidence> getEvidence() {
+        return Collections.unmodifiableSet(evidence);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DuplicateCluster)) {
+            return false;
+        }
+
+        DuplicateCluster otherCluster = (DuplicateCluster) other;
+        return persons.equals(otherCluster.persons)
+                && Double.compare(score, otherCluster.score) == 0
+                && evidence.equals(otherCluster.evidence);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, score, evidence);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("score", score)
+                .add("evidence", evidence)
+                .toString();
+    }
+}
@@ -0,0 +1,293 @@
+package seedu.address.model.dedupe;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import seedu.address.model.dedupe.DuplicateCluster.Evidence;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds clusters of persons that are likely to be duplicates of each other, without comparing every pair of persons.
+ * <p>
+ * Each person is put into buckets by a few blocking keys (their name with case, spacing and word order ignored,
+ * the digits of their phone number and the user part of their email) and by locality-sensitive hashing of a
+ * MinHash signature of their name and address. Only persons sharing a bucket are compared, so the work grows with
+ * the number of persons rather than the number of pairs. Buckets shared by very many persons are too common to be
+ * evidence of duplication and are skipped. Signatures and comparisons are computed in parallel.
+ */
+public class DuplicateDetector {
+
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.5;
+    public static final String MESSAGE_THRESHOLD_CONSTRAINTS = "Similarity threshold must be between 0 and 1";
+
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ROWS_PER_BAND = 2;
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int MAX_BUCKET_SIZE = 100;
+    private static final long SEED = 0x5DEECE66DL;
+    private static final double SAME_NAME_WEIGHT = 0.6;
+    private static final double SAME_PHONE_WEIGHT = 0.6;
+    private static final double SAME_EMAIL_USER_WEIGHT = 0.4;
+
+    private final double similarityThreshold;
+    private final long[] hashSeeds = new Random(SEED).longs(SIGNATURE_LENGTH).toArray();
+
+    public DuplicateDetector() {
+        this(DEFAULT_SIMILARITY_THRESHOLD);
+    }
+
+    /**
+     * Creates a detector that considers persons with no identical details to be duplicates if the estimated
+     * similarity of their names and addresses is at least {@code similarityThreshold}.
+     */
+    public DuplicateDetector(double similarityThreshold) {
+        checkArgument(similarityThreshold > 0 && similarityThreshold <= 1, MESSAGE_THRESHOLD_CONSTRAINTS);
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    /**
+     * Returns the clusters of likely duplicates among {@code persons}, most likely first.
+     */
+    public List<DuplicateCluster> findDuplicates(List<Person> persons) {
+        requireNonNull(persons);
+        List<Profile> profiles = persons.parallelStream()
+                .map(this::profile)
+                .collect(Collectors.toList());
+
+        Map<String, List<Integer>> buckets = IntStream.range(0, profiles.size()).parallel().boxed()
+                .flatMap(i -> profiles.get(i).keys.stream().map(key -> Map.entry(key, i)))
+                .collect(Collectors.groupingByConcurrent(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+        List<Match> matches = buckets.values().parallelStream()
+                .filter(bucket -> bucket.size() > 1 && bucket.size() <= MAX_BUCKET_SIZE)
+                .flatMapToLong(DuplicateDetector::pairsOf)
+                .distinct()
+                .mapToObj(pair -> match((int) (pair >>> 32), (int) pair, profiles))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return cluster(matches, persons);
+    }
+
+    /**
+     * Returns the pairs of persons in {@code bucket}, each encoded as the smaller index in the high half of a long
+     * and the larger index in the low half.
+     */
+    private static LongStream pairsOf(List<Integer> bucket) {
+        int[] indexes = bucket.stream().mapToInt(Integer::intValue).sorted().toArray();
+        return IntStream.range(0, indexes.length).boxed()
+                .flatMapToLong(i -> IntStream.range(i + 1, indexes.length)
+                        .mapToLong(j -> ((long) indexes[i] << 32) | indexes[j]));
+    }
+
+    /**
+     * Compares the persons at {@code first} and {@code second}, returning null if they are not likely duplicates.
+     */
+    private Match match(int first, int second, List<Profile> profiles) {
+        Profile a = profiles.get(first);
+        Profile b = profiles.get(second);
+        Set<Evidence> evidence = EnumSet.noneOf(Evidence.class);
+        double similarity = a.estimateSimilarity(b);
+        // each identical detail independently makes it less likely that the persons are different
+        double differentLikelihood = 1 - similarity;
+        if (a.name.equals(b.name)) {
+            evidence.add(Evidence.SAME_NAME);
+            differentLikelihood *= 1 - SAME_NAME_WEIGHT;
+        }
+        if (!a.phoneDigits.isEmpty() && a.phoneDigits.equals(b.phoneDigits)) {
+            evidence.add(Evidence.SAME_PHONE);
+            differentLikelihood *= 1 - SAME_PHONE_WEIGHT;
+        }
+        if (!a.emailUser.isEmpty() && a.emailUser.equals(b.emailUser)) {
+            evidence.add(Evidence.SAME_EMAIL_USER);
+            differentLikelihood *= 1 - SAME_EMAIL_USER_WEIGHT;
+        }
+        if (similarity >= similarityThreshold) {
+            evidence.add(Evidence.SIMILAR_DETAILS);
+        }
+        if (evidence.isEmpty()) {
+            return null;
+        }
+
+        return new Match(first, second, 1 - differentLikelihood, evidence);
+    }
+
+    /**
+     * Groups the persons linked by {@code matches} into clusters, most likely first.
+     */
+    private static List<DuplicateCluster> cluster(List<Match> matches, List<Person> persons) {
+        int[] parents = IntStream.range(0, persons.size()).toArray();
+        for (Match match : matches) {
+            parents[find(parents, match.first)] = find(parents, match.second);
+        }
+
+        // a sorted map keeps the order of clusters of equal rank independent of how the work was parallelised
+        Map<Integer, List<Match>> matchesByRoot = matches.stream()
+                .collect(Collectors.groupingBy(match -> find(parents, match.first), TreeMap::new,
+                        Collectors.toList()));
+        List<DuplicateCluster> clusters = new ArrayList<>();
+        for (List<Match> clusterMatches : matchesByRoot.values()) {
+            Set<Integer> indexes = new HashSet<>();
+            Set<Evidence> evidence = EnumSet.noneOf(Evidence.class);
+            double score = 0;
+            for (Match match : clusterMatches) {
+                indexes.add(match.first);
+                indexes.add(match.second);
+                evidence.addAll(match.evidence);
+                score = Math.max(score, match.score);
+            }
+            List<Person> clusterPersons = indexes.stream().sorted().map(persons::get).collect(Collectors.toList());
+            clusters.add(new DuplicateCluster(clusterPersons, score, evidence));
+        }
+
+        clusters.sort(Comparator.comparingDouble(DuplicateCluster::getScore)
+                .thenComparingInt(cluster -> cluster.getPersons().size())
+                .reversed());
+        return clusters;
+    }
+
+    /**
+     * Returns the representative of the set containing {@code index}, compressing the path to it.
+     */
+    private static int find(int[] parents, int index) {
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private Profile profile(Person person) {
+        String name = normalize(person.getName().fullName);
+        String sortedName = Arrays.stream(name.split(" ")).sorted().collect(Collectors.joining(" "));
+        String phoneDigits = person.getPhone().value().replaceAll("\\D", "");
+        String email = person.getEmail().value().toLowerCase(Locale.ROOT);
+        String emailUser = email.substring(0, Math.max(email.indexOf('@'), 0));
+
+        long[] signature = new long[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        addShingles(signature, "n", name);
+        addShingles(signature, "a", normalize(person.getAddress().value()));
+
+        List<String> keys = new ArrayList<>();
+        keys.add("n|" + sortedName);
+        if (!phoneDigits.isEmpty()) {
+            keys.add("p|" + phoneDigits);
+        }
+        if (!emailUser.isEmpty()) {
+            keys.add("e|" + emailUser);
+        }
+        for (int band = 0; band < SIGNATURE_LENGTH / ROWS_PER_BAND; band++) {
+            int from = band * ROWS_PER_BAND;
+            keys.add("b" + band + "|" + Arrays.hashCode(Arrays.copyOfRange(signature, from, from + ROWS_PER_BAND)));
+        }
+        return new Profile(sortedName, phoneDigits, emailUser, signature, keys);
+    }
+
+    /**
+     * Lowers the case of {@code text} and replaces each run of characters other than letters and digits with a
+     * single space.
+     */
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    /**
+     * Updates the MinHash {@code signature} with the character shingles of {@code text}, tagged by {@code field} so
+     * that shingles of different fields are distinct.
+     */
+    private void addShingles(long[] signature, String field, String text) {
+        String padded = " " + text + " ";
+        for (int start = 0; start + SHINGLE_LENGTH <= padded.length(); start++) {
+            long shingleHash = (field + padded.substring(start, start + SHINGLE_LENGTH)).hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ hashSeeds[i]));
+            }
+        }
+    }
+
+    /**
+     * Scrambles the bits of {@code value}, using the finalizer of MurmurHash3.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * The details of a person that are compared to find duplicates.
+     */
+    private static class Profile {
+        private final String name;
+        private final String phoneDigits;
+        private final String emailUser;
+        private final long[] signature;
+        private final List<String> keys;
+
+        Profile(String name, String phoneDigits, String emailUser, long[] signature, List<String> keys) {
+            this.name = name;
+            this.phoneDigits = phoneDigits;
+            this.emailUser = emailUser;
+            this.signature = signature;
+            this.keys = keys;
+        }
+
+        /**
+         * Returns the fraction of signature values shared with {@code other}, which estimates the Jaccard
+         * similarity of their name and address shingles.
+         */
+        double estimateSimilarity(Profile other) {
+            int shared = 0;
+            for (int i = 0; i < signature.length; i++) {
+                if (signature[i] == other.signature[i]) {
+                    shared++;
+                }
+            }
+            return (double) shared / signature.length;
+        }
+    }
+
+    /**
+     * Two persons, by their index, that are likely duplicates.
+     */
+    private static class Match {
+        private final int first;
+        private final int second;
+        private final double score;
+        private final Set<Evidence> evidence;
+
+        Match(int first, int second, double score, Set<Evidence> evidence) {
+            this.first = first;
+            this.second = second;
+            this.score = score;
+            this.evidence = evidence;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Describes a single modification of the persons in an address book, as published to {@code AddressBookListener}s.
+ * <p>
+ * Events are delivered in the order the modifications were made, and the position of each event refers to the
+ * person list as it was just before (for removals) or just after (for additions and replacements) that event.
+ */
+public abstract class AddressBookEvent {
+
+    /**
+     * Returns the events that make up {@code change}, in an order in which their positions are valid.
+     */
+    public static List<AddressBookEvent> of(AddressBookChange change) {
+        requireNonNull(change);
+        List<Integer> indexes = change.getIndexes();
+        List<AddressBookEvent> events = new ArrayList<>(indexes.size());
+        switch (change.getType()) {
+        case ADD:
+            for (int i = 0; i < indexes.size(); i++) {
+                events.add(new PersonAdded(indexes.get(i), change.getNewPersons().get(i)));
+            }
+            break;
+        case REMOVE:
+            // removing from the back keeps the positions of the persons not yet removed unchanged
+            for (int i = indexes.size() - 1; i >= 0; i--) {
+                events.add(new PersonRemoved(indexes.get(i), change.getOldPersons().get(i)));
+            }
+            break;
+        case SET:
+            for (int i = 0; i < indexes.size(); i++) {
+                events.add(new PersonReplaced(indexes.get(i), change.getOldPersons().get(i),
+                        change.getNewPersons().get(i)));
+            }
+            break;
+        default:
+            events.add(new BookReset(change.getOldPersons(), change.getNewPersons()));
+        }
+        return events;
+    }
+
+    /**
+     * Returns the persons that are no longer in the address book after this event.
+     */
+    public abstract List<Person> getRemovedPersons();
+
+    /**
+     * Returns the persons that are in the address book after this event but were not before it.
+     */
+    public abstract List<Person> getAddedPersons();
+
+    /**
+     * A person was added to the address book.
+     */
+    public static final class PersonAdded extends AddressBookEvent {
+        private final int index;
+        private final Person person;
+
+        /**
+         * Creates an event recording that {@code person} was added at {@code index}.
+         */
+        public PersonAdded(int index, Person person) {
+            requireNonNull(person);
+            this.index = index;
+            this.person = person;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public List<Person> getRemovedPersons() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Person> getAddedPersons() {
+            return List.of(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonAdded)) {
+                return false;
+            }
+
+            PersonAdded otherEvent = (PersonAdded) other;
+            return index == otherEvent.index && person.equals(otherEvent.person);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, person);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("index", index)
+                    .add("person", person)
+                    .toString();
+        }
+    }
+
+    /**
+     * A person in the address book was replaced, e.g. by an edited copy of themselves.
+     */
+    public static final class PersonReplaced extends AddressBookEvent {
+        private final int index;
+        private final Person oldPerson;
+        private final Person newPerson;
+
+        /**
+         * Creates an event recording that {@code oldPerson}, at {@code index}, was replaced by {@code newPerson}.
+         */
+        public PersonReplaced(int index, Person oldPerson, Person newPerson) {
+            requireAllNonNull(oldPerson, newPerson);
+            this.index = index;
+            this.oldPerson = oldPerson;
+            this.newPerson = newPerson;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Person getOldPerson() {
+            return oldPerson;
+        }
+
+        public Person getNewPerson() {
+            return newPerson;
+        }
+
+        @Override
+        public List<Person> getRemovedPersons() {
+            return List.of(oldPerson);
+        }
+
+        @Override
+        public List<Person> getAddedPersons() {
+            return List.of(newPerson);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonReplaced)) {
+                return false;
+            }
+
+            PersonReplaced otherEvent = (PersonReplaced) other;
+            return index == otherEvent.index
+                    && oldPerson.equals(otherEvent.oldPerson)
+                    && newPerson.equals(otherEvent.newPerson);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, oldPerson, newPerson);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("index", index)
+                    .add("oldPerson", oldPerson)
+                    .add("newPerson", newPerson)
+                    .toString();
+        }
+    }
+
+    /**
+     * A person was removed from the address book.
+     */
+    public static final class PersonRemoved extends AddressBookEvent {
+        private final int index;
+        private final Person person;
+
+        /**
+         * Creates an event recording that {@code person} was removed from {@code index}.
+         */
+        public PersonRemoved(int index, Person person) {
+            requireNonNull(person);
+            this.index = index;
+            this.person = person;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public List<Person> getRemovedPersons() {
+            return List.of(person);
+        }
+
+        @Override
+        public List<Person> getAddedPersons() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonRemoved)) {
+                return false;
+            }
+
+            PersonRemoved otherEvent = (PersonRemoved) other;
+            return index == otherEvent.index && person.equals(otherEvent.person);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, person);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("index", index)
+                    .add("person", person)
+                    .toString();
+        }
+    }
+
+    /**
+     * All persons in the address book were replaced at once, e.g. by {@code clear}.
+     * Listeners that derive data from the persons should rebuild it from {@link #getNewPersons()}.
+     */
+    public static final class BookReset extends AddressBookEvent {
+        private final List<Person> oldPersons;
+        private final List<Person> newPersons;
+
+        /**
+         * Creates an event recording that {@code oldPersons} were replaced by {@code newPersons}.
+         */
+        public BookReset(List<Person> oldPersons, List<Person> newPersons) {
+            requireAllNonNull(oldPersons, newPersons);
+            this.oldPersons = List.copyOf(oldPersons);
+            this.newPersons = List.copyOf(newPersons);
+        }
+
+        public List<Person> getOldPersons() {
+            return oldPersons;
+        }
+
+        public List<Person> getNewPersons() {
+            return newPersons;
+        }
+
+        @Override
+        public List<Person> getRemovedPersons() {
+            return oldPersons;
+        }
+
+        @Override
+        public List<Person> getAddedPersons() {
+            return newPersons;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof BookReset)) {
+                return false;
+            }
+
+            BookReset otherEvent = (BookReset) other;
+            return oldPersons.equals(otherEvent.oldPersons) && newPersons.equals(otherEvent.newPersons);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(oldPersons, newPersons);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("oldPersons", oldPersons.size())
+                    .add("newPersons", newPersons.size())
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import seedu.address.model.history.AddressBookChange;
+
+/**
+ * Delivers the modifications made to an address book to its listeners, synchronously and in order.
+ * <p>
+ * Between {@link #beginBatch()} and the matching {@link #endBatch()}, published events are held back and then
+ * delivered to each listener as a single list, so that a listener can update derived data once per batch.
+ * Batches may be nested; events are delivered when the outermost batch ends.
+ */
+public class AddressBookEventBus {
+
+    private final List<AddressBookListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<AddressBookEvent> pendingEvents = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Registers {@code listener} to be notified of every event published from now on.
+     */
+    public void addListener(AddressBookListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying {@code listener} of published events.
+     */
+    public void removeListener(AddressBookListener listener) {
+        requireNonNull(listener);
+        listeners.remove(listener);
+    }
+
+    /**
+     * Publishes the events that make up {@code change}, delivering them now unless a batch is in progress.
+     */
+    public void publish(AddressBookChange change) {
+        requireNonNull(change);
+        pendingEvents.addAll(AddressBookEvent.of(change));
+        if (batchDepth == 0) {
+            deliverPendingEvents();
+        }
+    }
+
+    /**
+     * Starts a batch, holding back published events until it ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the current batch, delivering the events published during it if it is the outermost batch.
+     */
+    public void endBatch() {
+        assert batchDepth > 0;
+        batchDepth--;
+        if (batchDepth == 0) {
+            deliverPendingEvents();
+        }
+    }
+
+    private void deliverPendingEvents() {
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+
+        List<AddressBookEvent> events = Collections.unmodifiableList(new ArrayList<>(pendingEvents));
+        pendingEvents.clear();
+        for (AddressBookListener listener : listeners) {
+            listener.onEvents(events);
+        }
+    }
+}
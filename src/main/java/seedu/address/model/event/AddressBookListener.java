@@ -0,0 +1,16 @@
+package seedu.address.model.event;
+
+import java.util.List;
+
+/**
+ * Receives the modifications made to the persons in an address book.
+ */
+@FunctionalInterface
+public interface AddressBookListener {
+
+    /**
+     * Called with the modifications made by one update of the address book, in the order they were made.
+     * Called synchronously by the thread making the update, before the update is visible to other threads.
+     */
+    void onEvents(List<AddressBookEvent> events);
+}
@@ -0,0 +1,202 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single change made to an {@code AddressBook}, recorded with enough information to be reverted.
+ * Only the persons touched by the change are retained, so the memory used by a change is proportional to its size.
+ * A change may add, remove or replace several persons at once, and is then applied as a single batch.
+ */
+public class AddressBookChange {
+
+    public static final String MESSAGE_SIZE_MISMATCH = "Each person touched by a change must have one position";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    public enum Type { ADD, REMOVE, SET, RESET }
+
+    private final Type type;
+    private final List<Integer> indexes;
+    private final List<Person> oldPersons;
+    private final List<Person> newPersons;
+
+    private AddressBookChange(Type type, List<Integer> indexes, List<Person> oldPersons, List<Person> newPersons) {
+        this.type = type;
+        this.indexes = indexes;
+        this.oldPersons = oldPersons;
+        this.newPersons = newPersons;
+    }
+
+    /**
+     * Returns a change recording that {@code person} was added at {@code index}.
+     */
+    public static AddressBookChange add(int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD, List.of(index), Collections.emptyList(), List.of(person));
+    }
+
+    /**
+     * Returns a change recording that {@code person} was removed from {@code index}.
+     */
+    public static AddressBookChange remove(int index, Person person) {
+        return removeAll(List.of(index), List.of(person));
+    }
+
+    /**
+     * Returns a change recording that each of {@code persons} was removed from the corresponding position of
+     * {@code indexes}, which must be in ascending order.
+     */
+    public static AddressBookChange removeAll(List<Integer> indexes, List<Person> persons) {
+        requireAllNonNull(indexes, persons);
+        checkArgument(indexes.size() == persons.size(), MESSAGE_SIZE_MISMATCH);
+        return new AddressBookChange(Type.REMOVE, List.copyOf(indexes), List.copyOf(persons),
+                Collections.emptyList());
+    }
+
+    /**
+     * Returns a change recording that {@code target}, at {@code index}, was replaced by {@code editedPerson}.
+     */
+    public static AddressBookChange set(int index, Person target, Person editedPerson) {
+        return setAll(List.of(index), List.of(target), List.of(editedPerson));
+    }
+
+    /**
+     * Returns a change recording that each of {@code targets}, at the corresponding position of {@code indexes},
+     * was replaced by the corresponding person in {@code editedPersons}.
+     */
+    public static AddressBookChange setAll(List<Integer> indexes, List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(indexes, targets, editedPersons);
+        checkArgument(indexes.size() == targets.size() && targets.size() == editedPersons.size(),
+                MESSAGE_SIZE_MISMATCH);
+        return new AddressBookChange(Type.SET, List.copyOf(indexes), List.copyOf(targets),
+                List.copyOf(editedPersons));
+    }
+
+    /**
+     * Returns a change recording that the persons in the address book were replaced wholesale.
+     * Either list is kept without copying if it is already a {@code PersistentList}, such as an address book snapshot.
+     */
+    public static AddressBookChange reset(List<Person> oldPersons, List<Person> newPersons) {
+        requireAllNonNull(oldPersons, newPersons);
+        return new AddressBookChange(Type.RESET, Collections.emptyList(), PersistentList.copyOf(oldPersons),
+                PersistentList.copyOf(newPersons));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the positions in the person list of the persons touched by this change, in ascending order, or an
+     * empty list for a reset. Persons are added at positions in the resulting list, removed from positions in the
+     * original list, and replaced in place.
+     */
+    public List<Integer> getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Returns the persons that were in the address book before this change, and are not after it.
+     */
+    public List<Person> getOldPersons() {
+        return oldPersons;
+    }
+
+    /**
+     * Returns the persons that are in the address book after this change, and were not before it.
+     */
+    public List<Person> getNewPersons() {
+        return newPersons;
+    }
+
+    /**
+     * Returns the number of persons retained by this change.
+     */
+    public int getSize() {
+        return oldPersons.size() + newPersons.size();
+    }
+
+    /**
+     * Applies this change to {@code addressBook}, which must be in the state this change was recorded from.
+     */
+    public void apply(AddressBook addressBook) {
+        switch (type) {
+        case ADD:
+            addressBook.addPersons(indexes, newPersons);
+            break;
+        case REMOVE:
+            addressBook.removePersons(oldPersons);
+            break;
+        case SET:
+            addressBook.replacePersons(oldPersons, newPersons);
+            break;
+        case RESET:
+            addressBook.setPersons(newPersons);
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public AddressBookChange inverse() {
+        switch (type) {
+        case ADD:
+            return new AddressBookChange(Type.REMOVE, indexes, newPersons, oldPersons);
+        case REMOVE:
+            return new AddressBookChange(Type.ADD, indexes, newPersons, oldPersons);
+        case SET:
+        case RESET:
+            return new AddressBookChange(type, indexes, newPersons, oldPersons);
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && indexes.equals(otherChange.indexes)
+                && oldPersons.equals(otherChange.oldPersons)
+                && newPersons.equals(otherChange.newPersons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, indexes, oldPersons, newPersons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("indexes", indexes)
+                .add("oldPersons", oldPersons)
+                .add("newPersons", newPersons)
+                .toString();
+    }
+}
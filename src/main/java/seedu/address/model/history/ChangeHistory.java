@@ -0,0 +1,150 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records the changes made to an address book as a log of reversible steps, for undo and redo.
+ * Each step groups the changes made between two calls to {@link #commit()}.
+ * The total number of persons retained across all steps is bounded by a capacity; the oldest steps are discarded
+ * once it is exceeded. A step that is larger than the capacity on its own is still retained, so that it can be
+ * undone, until the next step is committed; all steps before it are discarded, as they can only be undone after it.
+ */
+public class ChangeHistory {
+
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "History capacity cannot be negative";
+
+    private final Deque<List<AddressBookChange>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<AddressBookChange>> redoSteps = new ArrayDeque<>();
+    private List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private int capacity;
+    private int size;
+
+    /**
+     * Creates an empty {@code ChangeHistory} that retains at most {@code capacity} persons.
+     */
+    public ChangeHistory(int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Sets the maximum number of persons retained by this history, discarding the oldest steps if necessary.
+     */
+    public void setCapacity(int capacity) {
+        checkArgument(capacity >= 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        this.capacity = capacity;
+        evictOldestSteps();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of persons retained by the committed steps in this history.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Records {@code change} as part of the step that will be created by the next {@link #commit()}.
+     */
+    public void record(AddressBookChange change) {
+        requireNonNull(change);
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Returns true if there are changes that have been recorded but not committed.
+     */
+    public boolean hasPendingChanges() {
+        return !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Groups all changes recorded since the last commit into a single undoable step.
+     * Committing a new step discards all steps that could have been redone.
+     *
+     * @return false if the step is larger than the capacity, so that the steps before it were discarded.
+     */
+    public boolean commit() {
+        if (pendingChanges.isEmpty()) {
+            return true;
+        }
+
+        List<AddressBookChange> step = Collections.unmodifiableList(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoSteps.forEach(redoStep -> size -= sizeOf(redoStep));
+        redoSteps.clear();
+        undoSteps.push(step);
+        size += sizeOf(step);
+        evictOldestSteps();
+        return sizeOf(step) <= capacity;
+    }
+
+    /**
+     * Removes and returns the changes recorded since the last commit, in the order they were recorded.
+     */
+    public List<AddressBookChange> discardPendingChanges() {
+        List<AddressBookChange> discarded = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        return discarded;
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Moves the latest step to the redo log and returns its changes, in the order they should be reverted.
+     */
+    public List<AddressBookChange> undo() {
+        checkArgument(canUndo(), "There is no step to undo");
+        List<AddressBookChange> step = undoSteps.pop();
+        redoSteps.push(step);
+        List<AddressBookChange> reversed = new ArrayList<>(step);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    /**
+     * Moves the latest undone step back to the undo log and returns its changes, in the order they should be
+     * applied.
+     */
+    public List<AddressBookChange> redo() {
+        checkArgument(canRedo(), "There is no step to redo");
+        List<AddressBookChange> step = redoSteps.pop();
+        undoSteps.push(step);
+        return step;
+    }
+
+    /**
+     * Discards the oldest steps until the retained size is within capacity, except for the latest undo step unless
+     * the capacity is zero.
+     * Undo steps are discarded before redo steps, since they are further from the current state.
+     */
+    private void evictOldestSteps() {
+        int kept = capacity == 0 ? 0 : 1;
+        while (size > capacity && undoSteps.size() > kept) {
+            size -= sizeOf(undoSteps.removeLast());
+        }
+        while (size > capacity && !redoSteps.isEmpty()) {
+            size -= sizeOf(redoSteps.removeLast());
+        }
+    }
+
+    private static int sizeOf(List<AddressBookChange> step) {
+        return step.stream().mapToInt(AddressBookChange::getSize).sum();
+    }
+}
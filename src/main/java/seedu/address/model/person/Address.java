@@ -3,9 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
+ * <p>
+ * Addresses repeat the same block, street and estate words across many persons, so an address is stored as the ids
+ * of its space-separated tokens in a {@link TokenDictionary} shared by all addresses, and its text is rebuilt only
+ * when asked for. Unit numbers and tokens with as many digits as a postal code are rarely shared, so they are stored
+ * in place rather than kept in the dictionary for good.
  */
 public class Address {
 
@@ -17,7 +24,11 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
-    public final String value;
+    private static final String TOKEN_SEPARATOR = " ";
+    private static final int POSTAL_CODE_DIGITS = 6;
+    private static final TokenDictionary DICTIONARY = new TokenDictionary();
+
+    private final byte[] encodedTokens;
 
     /**
      * Constructs an {@code Address}.
@@ -27,7 +38,23 @@ public class Address {
     public Address(String address) {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
-        value = address;
+        encodedTokens = DICTIONARY.encode(Arrays.asList(address.split(TOKEN_SEPARATOR, -1)), Address::isSharedToken);
+    }
+
+    /**
+     * Returns true if {@code token} is likely to appear in other addresses, i.e. it is not a unit number and has
+     * fewer digits than a postal code.
+     */
+    private static boolean isSharedToken(String token) {
+        return !token.contains(AddressComponents.UNIT_PREFIX)
+                && token.chars().filter(Character::isDigit).count() < POSTAL_CODE_DIGITS;
+    }
+
+    /**
+     * Returns the dictionary of the tokens of all addresses.
+     */
+    public static TokenDictionary getDictionary() {
+        return DICTIONARY;
     }
 
     /**
@@ -37,9 +64,31 @@ public class Address {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the address as entered, which is rebuilt from its tokens on each call.
+     */
+    public String value() {
+        return String.join(TOKEN_SEPARATOR, DICTIONARY.decode(encodedTokens));
+    }
+
+    /**
+     * Returns the block, street, estate and unit components of the address, which are parsed on each call.
+     */
+    public AddressComponents getComponents() {
+        return AddressComponents.parse(value());
+    }
+
+    /**
+     * Returns the ids in {@link #getDictionary()} of the space-separated tokens of the address, in order, with
+     * {@link TokenDictionary#NO_ID} for the tokens that are stored in place.
+     */
+    public int[] getTokenIds() {
+        return TokenDictionary.decodeIds(encodedTokens);
+    }
+
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
     @Override
@@ -54,12 +103,13 @@ public class Address {
         }
 
         Address otherAddress = (Address) other;
-        return value.equals(otherAddress.value);
+        // the dictionary gives each token one id, so equal addresses have equal encodings
+        return Arrays.equals(encodedTokens, otherAddress.encodedTokens);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Arrays.hashCode(encodedTokens);
     }
 
 }
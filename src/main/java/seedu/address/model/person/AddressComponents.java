@@ -0,0 +1,205 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The block, street, estate and unit components of an address, e.g. {@code Blk 30 Lorong 3 Serangoon Gardens, #07-18}
+ * has the block {@code 30}, the street {@code Lorong 3 Serangoon Gardens}, the estate {@code Serangoon Gardens} and
+ * the unit {@code 07-18}.
+ * <p>
+ * Addresses are free text, so the components are found by rules of thumb for Singapore-style addresses:
+ * <ul>
+ *     <li>A block is the number after {@code Blk} or {@code Block}, or a number starting the address.</li>
+ *     <li>A unit is a word starting with {@code #}, or the word after {@code Unit}.</li>
+ *     <li>A street is the rest of a comma-separated part that has a street word such as {@code Street},
+ *     {@code Ave} or {@code Lorong}.</li>
+ *     <li>An estate is the words of a street other than street words and numbers, or a part without a street
+ *     word.</li>
+ * </ul>
+ * Parts of an address that follow none of these rules, such as postal codes, are left out.
+ */
+public class AddressComponents {
+
+    /**
+     * The kinds of address components, with the qualifier that restricts an address query to one kind.
+     */
+    public enum Kind {
+        BLOCK("blk"), STREET("street"), ESTATE("estate"), UNIT("unit");
+
+        private final String qualifier;
+
+        Kind(String qualifier) {
+            this.qualifier = qualifier;
+        }
+
+        public String getQualifier() {
+            return qualifier;
+        }
+
+        /**
+         * Returns the kind with the qualifier {@code qualifier}, ignoring case, if there is one.
+         */
+        public static Optional<Kind> fromQualifier(String qualifier) {
+            requireNonNull(qualifier);
+            return Arrays.stream(values()).filter(kind -> kind.qualifier.equalsIgnoreCase(qualifier)).findFirst();
+        }
+    }
+
+    public static final String UNIT_PREFIX = "#";
+
+    private static final Set<String> BLOCK_WORDS = Set.of("blk", "block", "bk");
+    private static final Set<String> UNIT_WORDS = Set.of("unit");
+    private static final Set<String> STREET_WORDS = Set.of("street", "st", "road", "rd", "avenue", "ave", "lorong",
+            "lor", "drive", "dr", "crescent", "cres", "close", "walk", "lane", "ln", "way", "boulevard", "blvd",
+            "place", "pl", "link", "rise", "terrace", "view", "hill", "grove", "central", "jalan", "jln");
+    private static final Set<String> POSTAL_WORDS = Set.of("singapore");
+    private static final Pattern NUMBER_FORMAT = Pattern.compile("\\d+[a-z]?");
+    private static final Pattern POSTAL_CODE_FORMAT = Pattern.compile("s?\\(?\\d{6}\\)?");
+    private static final Pattern WORD_EDGES = Pattern.compile("^[^\\p{L}\\p{N}#]+|[^\\p{L}\\p{N}]+$");
+
+    private final Map<Kind, List<String>> components;
+
+    private AddressComponents(Map<Kind, List<String>> components) {
+        this.components = components;
+    }
+
+    /**
+     * Returns the components of {@code address}.
+     */
+    public static AddressComponents parse(String address) {
+        requireNonNull(address);
+        Map<Kind, List<String>> components = new EnumMap<>(Kind.class);
+        boolean isFirstWord = true;
+        for (String part : address.split(",")) {
+            List<String> streetWords = new ArrayList<>();
+            String[] words = part.trim().split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                String word = normalize(words[i]);
+                String lowerCaseWord = word.toLowerCase(Locale.ROOT);
+                String next = i + 1 < words.length ? normalize(words[i + 1]) : "";
+                boolean wasFirstWord = isFirstWord;
+                isFirstWord &= word.isEmpty();
+                if (word.isEmpty()) {
+                    continue;
+                } else if (BLOCK_WORDS.contains(lowerCaseWord) && isNumber(next)) {
+                    add(components, Kind.BLOCK, next);
+                    i++;
+                } else if (wasFirstWord && isNumber(word)) {
+                    add(components, Kind.BLOCK, word);
+                } else if (UNIT_WORDS.contains(lowerCaseWord) && !next.isEmpty()) {
+                    add(components, Kind.UNIT, next.replaceFirst("^" + UNIT_PREFIX, ""));
+                    i++;
+                } else if (word.startsWith(UNIT_PREFIX)) {
+                    add(components, Kind.UNIT, word.substring(UNIT_PREFIX.length()));
+                } else if (!POSTAL_WORDS.contains(lowerCaseWord)
+                        && !POSTAL_CODE_FORMAT.matcher(lowerCaseWord).matches()) {
+                    streetWords.add(word);
+                }
+            }
+            addStreetAndEstate(components, streetWords);
+        }
+        components.replaceAll((kind, values) -> Collections.unmodifiableList(values));
+        return new AddressComponents(components);
+    }
+
+    /**
+     * Returns the components of the kind {@code kind}, in the order they appear in the address.
+     */
+    public List<String> get(Kind kind) {
+        requireNonNull(kind);
+        return components.getOrDefault(kind, Collections.emptyList());
+    }
+
+    /**
+     * Returns the words of the components of the kind {@code kind}, in lower case.
+     */
+    public Set<String> getWords(Kind kind) {
+        return get(kind).stream()
+                .flatMap(component -> Arrays.stream(component.split("\\s+")))
+                .map(word -> word.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static void addStreetAndEstate(Map<Kind, List<String>> components, List<String> words) {
+        if (words.isEmpty()) {
+            return;
+        }
+
+        boolean hasStreetWord = words.stream().anyMatch(AddressComponents::isStreetWord);
+        List<String> estateWords = words.stream()
+                .filter(word -> !isStreetWord(word) && word.chars().noneMatch(Character::isDigit))
+                .collect(Collectors.toList());
+        if (hasStreetWord) {
+            add(components, Kind.STREET, String.join(" ", words));
+        }
+        if (!estateWords.isEmpty()) {
+            add(components, Kind.ESTATE, String.join(" ", estateWords));
+        }
+    }
+
+    private static void add(Map<Kind, List<String>> components, Kind kind, String component) {
+        List<String> values = components.computeIfAbsent(kind, unused -> new ArrayList<>());
+        if (!values.contains(component)) {
+            values.add(component);
+        }
+    }
+
+    private static boolean isStreetWord(String word) {
+        return STREET_WORDS.contains(word.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isNumber(String word) {
+        return NUMBER_FORMAT.matcher(word.toLowerCase(Locale.ROOT)).matches();
+    }
+
+    /**
+     * Returns {@code word} without the punctuation around it, keeping a leading {@code #}.
+     */
+    private static String normalize(String word) {
+        return WORD_EDGES.matcher(word).replaceAll("");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressComponents)) {
+            return false;
+        }
+
+        AddressComponents otherComponents = (AddressComponents) other;
+        return components.equals(otherComponents.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return components.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this);
+        for (Kind kind : Kind.values()) {
+            builder.add(kind.getQualifier(), get(kind));
+        }
+        return builder.toString();
+    }
+}
@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
+ * <p>
+ * The address is kept as the bytes of its local part and its domain, and the domains are interned, so each distinct
+ * domain is stored once however many persons share it.
  */
 public class Email {
 
@@ -31,7 +37,10 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
-    public final String value;
+    /** The part before the {@code @}, in ASCII, which is all that a valid local part may contain. */
+    private final byte[] localPart;
+    /** The domain, interned, as most persons share one of a few. */
+    private final String domain;
 
     /**
      * Constructs an {@code Email}.
@@ -41,7 +50,9 @@ public class Email {
     public Email(String email) {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
-        value = email;
+        int at = email.indexOf('@');
+        localPart = email.substring(0, at).getBytes(StandardCharsets.US_ASCII);
+        domain = email.substring(at + 1).intern();
     }
 
     /**
@@ -51,9 +62,30 @@ public class Email {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the email address as entered, which is joined into a new string on each call.
+     */
+    public String value() {
+        return getLocalPart() + '@' + domain;
+    }
+
+    /**
+     * Returns the part of the address before the {@code @}.
+     */
+    public String getLocalPart() {
+        return new String(localPart, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the part of the address after the {@code @}, as entered.
+     */
+    public String getDomain() {
+        return domain;
+    }
+
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
     @Override
@@ -68,12 +100,13 @@ public class Email {
         }
 
         Email otherEmail = (Email) other;
-        return value.equals(otherEmail.value);
+        return Arrays.equals(localPart, otherEmail.localPart)
+                && domain.equals(otherEmail.domain);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * Arrays.hashCode(localPart) + domain.hashCode();
     }
 
 }
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A stored person that was left out of the address book because its details are invalid or it duplicates a person
+ * stored before it.
+ */
+public class InvalidPersonRecord {
+
+    private final int position;
+    private final PersonRecord record;
+    private final String reason;
+
+    /**
+     * Creates an invalid record for {@code record}, the {@code position}-th person stored, counting from 1.
+     */
+    public InvalidPersonRecord(int position, PersonRecord record, String reason) {
+        requireAllNonNull(record, reason);
+        this.position = position;
+        this.record = record;
+        this.reason = reason;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public PersonRecord getRecord() {
+        return record;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InvalidPersonRecord)) {
+            return false;
+        }
+
+        InvalidPersonRecord otherRecord = (InvalidPersonRecord) other;
+        return position == otherRecord.position
+                && record.equals(otherRecord.record)
+                && reason.equals(otherRecord.reason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, record, reason);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("position", position)
+                .add("record", record)
+                .add("reason", reason)
+                .toString();
+    }
+}
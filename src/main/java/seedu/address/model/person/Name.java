@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +26,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The phonetic codes of the words of the name, computed when first needed. */
+    private Set<String> phoneticCodes;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +47,20 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the Soundex codes of the words of this name, so that names can be looked up by how they sound.
+     * Words without a letter have no code.
+     */
+    public Set<String> getPhoneticCodes() {
+        // the codes never change, so computing them more than once when racing is harmless
+        if (phoneticCodes == null) {
+            phoneticCodes = Stream.of(fullName.split("\\s+"))
+                    .map(StringUtil::soundex)
+                    .filter(code -> !code.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        return phoneticCodes;
+    }
 
     @Override
     public String toString() {
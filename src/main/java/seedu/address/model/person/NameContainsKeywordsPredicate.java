@@ -1,24 +1,44 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Predicates are equal if they match the same keywords, regardless of the order or case the keywords were given in.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> normalizedKeywords;
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Returns the keywords matched by this predicate, in lower case.
+     */
+    public Set<String> getKeywords() {
+        return Collections.unmodifiableSet(normalizedKeywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
+        return normalizedKeywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
@@ -34,7 +54,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return normalizedKeywords.equals(otherNameContainsKeywordsPredicate.normalizedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return normalizedKeywords.hashCode();
     }
 
     @Override
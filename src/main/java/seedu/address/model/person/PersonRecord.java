@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The details of a person as they were stored, kept as text until they are checked and built into a {@code Person}
+ * by {@link #toPerson()}. Any of the details may be missing or invalid.
+ */
+public class PersonRecord {
+
+    public static final String MESSAGE_MISSING_FIELD = "Person's %s field is missing!";
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tagNames;
+
+    /**
+     * Creates a record of the given details, any of which may be null if missing.
+     */
+    public PersonRecord(String name, String phone, String email, String address, List<String> tagNames) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tagNames = tagNames == null ? Collections.emptyList() : Collections.unmodifiableList(
+                new ArrayList<>(tagNames));
+    }
+
+    /**
+     * Returns a record of the details of {@code person}.
+     */
+    public static PersonRecord of(Person person) {
+        requireNonNull(person);
+        return new PersonRecord(person.getName().fullName, person.getPhone().value(), person.getEmail().value(),
+                person.getAddress().value(), person.getTags().stream()
+                        .map(tag -> tag.tagName)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the name as stored, which may be null or invalid.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the phone number as stored, which may be null or invalid.
+     */
+    public String getPhone() {
+        return phone;
+    }
+
+    /**
+     * Returns the email as stored, which may be null or invalid.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the address as stored, which may be null or invalid.
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the tag names as stored, any of which may be null or invalid.
+     */
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+
+    /**
+     * Checks the details and returns the person they describe.
+     *
+     * @throws IllegalValueException naming the first detail that is missing or invalid.
+     */
+    public Person toPerson() throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            if (tagName == null || !Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        checkField(name, Name.class, Name::isValidName, Name.MESSAGE_CONSTRAINTS);
+        checkField(phone, Phone.class, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS);
+        checkField(email, Email.class, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS);
+        checkField(address, Address.class, Address::isValidAddress, Address.MESSAGE_CONSTRAINTS);
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+    }
+
+    private static void checkField(String value, Class<?> field, Predicate<String> isValid, String constraints)
+            throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, field.getSimpleName()));
+        }
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonRecord)) {
+            return false;
+        }
+
+        PersonRecord otherRecord = (PersonRecord) other;
+        return Objects.equals(name, otherRecord.name)
+                && Objects.equals(phone, otherRecord.phone)
+                && Objects.equals(email, otherRecord.email)
+                && Objects.equals(address, otherRecord.address)
+                && tagNames.equals(otherRecord.tagNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address, tagNames);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("tags", tagNames)
+                .toString();
+    }
+}
@@ -3,9 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ * <p>
+ * The digits are packed into a {@code long}, or two to a byte if there are too many for one, rather than kept as a
+ * string, as every person has a phone number.
  */
 public class Phone {
 
@@ -13,7 +18,16 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
-    public final String value;
+
+    /** The most digits that always fit in a {@code long}. */
+    private static final int MAX_PACKED_LENGTH = 18;
+
+    /** The digits read as a number, if there are at most {@link #MAX_PACKED_LENGTH} of them, or 0. */
+    private final long packedDigits;
+    /** The digits in binary-coded decimal, the first in the high half of the first byte, or null if packed. */
+    private final byte[] bcdDigits;
+    /** The number of digits, which includes any leading zeros. */
+    private final int length;
 
     /**
      * Constructs a {@code Phone}.
@@ -23,7 +37,18 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = phone;
+        length = phone.length();
+        if (length <= MAX_PACKED_LENGTH) {
+            packedDigits = Long.parseLong(phone);
+            bcdDigits = null;
+        } else {
+            packedDigits = 0;
+            bcdDigits = new byte[(length + 1) / 2];
+            for (int i = 0; i < length; i++) {
+                int digit = phone.charAt(i) - '0';
+                bcdDigits[i / 2] |= (byte) (i % 2 == 0 ? digit << 4 : digit);
+            }
+        }
     }
 
     /**
@@ -33,9 +58,29 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the phone number as entered, which is unpacked into a new string on each call.
+     */
+    public String value() {
+        char[] digits = new char[length];
+        if (bcdDigits == null) {
+            long remaining = packedDigits;
+            for (int i = length - 1; i >= 0; i--) {
+                digits[i] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                int pair = bcdDigits[i / 2];
+                digits[i] = (char) ('0' + (i % 2 == 0 ? (pair >> 4) & 0xF : pair & 0xF));
+            }
+        }
+        return new String(digits);
+    }
+
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
     @Override
@@ -50,12 +95,14 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return length == otherPhone.length
+                && packedDigits == otherPhone.packedDigits
+                && Arrays.equals(bcdDigits, otherPhone.bcdDigits);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * (31 * Long.hashCode(packedDigits) + length) + Arrays.hashCode(bcdDigits);
     }
 
 }
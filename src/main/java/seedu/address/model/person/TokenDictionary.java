@@ -0,0 +1,185 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A dictionary that gives each distinct token, such as a word of an address, a small integer id, so that a text made
+ * of tokens repeated across many persons can be stored as a sequence of ids with each token stored once.
+ * <p>
+ * Ids are handed out in the order tokens are first seen, so the most common tokens, which tend to be seen early, get
+ * the smallest ids. Tokens are never removed, as they may still be referred to by encoded sequences, so tokens that
+ * are unlikely to be repeated can instead be stored in place in the sequences that contain them. Each token of a
+ * sequence is encoded as a header seven bits to a byte: twice the id of a token in the dictionary, or twice the
+ * length of a token stored in place plus one, followed by its UTF-8 bytes. Ids below 64 thus take a single byte.
+ * <p>
+ * A dictionary may be shared between threads. Only adding a token takes a lock; tokens are looked up and sequences
+ * decoded without one, as the tokens are kept in an array that is only ever appended to.
+ */
+public class TokenDictionary {
+
+    public static final String MESSAGE_ID_CONSTRAINTS = "Token ids should be ones handed out by the dictionary";
+
+    /** The id that {@link #decodeIds(byte[])} gives a token stored in place. */
+    public static final int NO_ID = -1;
+
+    private static final int BITS_PER_BYTE = 7;
+    private static final int LOW_BITS = (1 << BITS_PER_BYTE) - 1;
+    private static final int CONTINUATION_BIT = 1 << BITS_PER_BYTE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    /** The tokens by id. Replaced by a larger copy when full; entries are never changed once written. */
+    private volatile String[] tokens = new String[INITIAL_CAPACITY];
+    /** The number of tokens. Written after the token it counts, so that a reader that sees the count sees it. */
+    private volatile int size;
+
+    /**
+     * Returns the id of {@code token}, giving it the next id if it is not in the dictionary yet.
+     */
+    public int intern(String token) {
+        requireNonNull(token);
+        Integer id = ids.get(token);
+        return id != null ? id : add(token);
+    }
+
+    private synchronized int add(String token) {
+        Integer existingId = ids.get(token);
+        if (existingId != null) {
+            return existingId;
+        }
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+        }
+        tokens[size] = token;
+        // counted before it can be found by its id, so that any thread that has the id can get the token
+        int id = size++;
+        ids.put(token, id);
+        return id;
+    }
+
+    /**
+     * Returns the id of {@code token}, or -1 if it is not in the dictionary.
+     */
+    public int idOf(String token) {
+        requireNonNull(token);
+        return ids.getOrDefault(token, -1);
+    }
+
+    /**
+     * Returns the token with the id {@code id}.
+     */
+    public String get(int id) {
+        checkArgument(id >= 0 && id < size, MESSAGE_ID_CONSTRAINTS);
+        return tokens[id];
+    }
+
+    /**
+     * Returns the number of distinct tokens in the dictionary.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code sequence} encoded as the ids of its tokens, interning any tokens not in the dictionary yet.
+     */
+    public byte[] encode(List<String> sequence) {
+        return encode(sequence, token -> true);
+    }
+
+    /**
+     * Returns {@code sequence} encoded as the ids of the tokens that satisfy {@code isShared}, interning any of them
+     * not in the dictionary yet, with the other tokens stored in place.
+     * Whether a token is shared must depend on the token alone, so that equal sequences have equal encodings.
+     */
+    public byte[] encode(List<String> sequence, Predicate<String> isShared) {
+        requireAllNonNull(sequence);
+        requireNonNull(isShared);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(sequence.size());
+        for (String token : sequence) {
+            if (isShared.test(token)) {
+                writeHeader(encoded, intern(token) << 1);
+            } else {
+                byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+                writeHeader(encoded, bytes.length << 1 | 1);
+                encoded.writeBytes(bytes);
+            }
+        }
+        return encoded.toByteArray();
+    }
+
+    private static void writeHeader(ByteArrayOutputStream encoded, int header) {
+        while (header > LOW_BITS) {
+            encoded.write(header & LOW_BITS | CONTINUATION_BIT);
+            header >>>= BITS_PER_BYTE;
+        }
+        encoded.write(header);
+    }
+
+    /**
+     * Returns the tokens that were encoded into {@code encoded} by {@link #encode(List, Predicate)}.
+     */
+    public List<String> decode(byte[] encoded) {
+        requireNonNull(encoded);
+        List<String> decoded = new ArrayList<>();
+        int[] position = {0};
+        while (position[0] < encoded.length) {
+            int header = readHeader(encoded, position);
+            if ((header & 1) == 0) {
+                decoded.add(get(header >>> 1));
+            } else {
+                int length = header >>> 1;
+                decoded.add(new String(encoded, position[0], length, StandardCharsets.UTF_8));
+                position[0] += length;
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns the ids of the tokens encoded into {@code encoded} by {@link #encode(List, Predicate)}, in order, with
+     * {@link #NO_ID} for each token stored in place.
+     */
+    public static int[] decodeIds(byte[] encoded) {
+        requireNonNull(encoded);
+        int[] ids = new int[encoded.length];
+        int count = 0;
+        int[] position = {0};
+        while (position[0] < encoded.length) {
+            int header = readHeader(encoded, position);
+            if ((header & 1) == 0) {
+                ids[count++] = header >>> 1;
+            } else {
+                ids[count++] = NO_ID;
+                position[0] += header >>> 1;
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Returns the header that starts at {@code position[0]} in {@code encoded}, moving the position past it.
+     */
+    private static int readHeader(byte[] encoded, int[] position) {
+        int header = 0;
+        int shift = 0;
+        byte part;
+        do {
+            part = encoded[position[0]++];
+            header |= (part & LOW_BITS) << shift;
+            shift += BITS_PER_BYTE;
+        } while ((part & CONTINUATION_BIT) != 0);
+        return header;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.person;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A field of a person that may be required to differ between the persons of an address book, in addition to their
+ * identity.
+ */
+public enum UniqueField {
+    PHONE("phone number", person -> person.getPhone().value()),
+    /** Emails are compared case-insensitively, as most mail servers treat them. */
+    EMAIL("email", person -> person.getEmail().value().toLowerCase(Locale.ROOT));
+
+    private final String description;
+    private final Function<Person, String> keyFunction;
+
+    UniqueField(String description, Function<Person, String> keyFunction) {
+        this.description = description;
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the user-facing name of the field, e.g. {@code phone number}.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the value of the field of {@code person} that must be unique.
+     */
+    public String keyOf(Person person) {
+        return keyFunction.apply(person);
+    }
+}
@@ -3,11 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PositionIndex;
+import seedu.address.commons.util.VersionedList;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,54 +33,162 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The list may also be required to keep some fields, such as phone numbers, unique between its persons; see
+ * {@link #setUniqueFields(Set)}. Unique fields are kept in hash indexes, so that checking a person against the list
+ * takes constant time, and the position of each person is kept by name, so that finding a person takes logarithmic
+ * time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    /** The persons in the list, kept in a {@code VersionedList} so that a snapshot of them can be taken at no cost. */
+    private final VersionedList<Person> storage = new VersionedList<>();
+    private final BatchObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+
+    /** The position of each person in the list by name, which identifies them. */
+    private final PositionIndex<Name> positions = new PositionIndex<>();
+    /** The persons in the list by the value of each field that must be unique. */
+    private final Map<UniqueField, Map<String, Person>> personsByField = new EnumMap<>(UniqueField.class);
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePersonList() {
+        internalList = BatchObservableList.backedBy(storage);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.contains(toCheck.getName());
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain a person equal to it.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        int index = positions.indexOf(person.getName());
+        return index != -1 && internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns the fields that must be unique between the persons in the list.
+     */
+    public Set<UniqueField> getUniqueFields() {
+        return Collections.unmodifiableSet(personsByField.keySet());
+    }
+
+    /**
+     * Requires {@code fields} to be unique between the persons in the list from now on, and no other fields.
+     * The persons already in the list must satisfy the requirement; otherwise it is not changed.
+     *
+     * @throws DuplicateFieldException naming a person sharing a value of one of the fields with another.
+     */
+    public void setUniqueFields(Set<UniqueField> fields) {
+        requireAllNonNull(fields);
+        Map<UniqueField, Map<String, Person>> indexes = new EnumMap<>(UniqueField.class);
+        for (UniqueField field : fields) {
+            Map<String, Person> index = new HashMap<>();
+            for (Person person : internalList) {
+                Person existing = index.putIfAbsent(field.keyOf(person), person);
+                if (existing != null) {
+                    throw new DuplicateFieldException(field, existing);
+                }
+            }
+            indexes.put(field, index);
+        }
+
+        personsByField.clear();
+        personsByField.putAll(indexes);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, nor share a unique field with a person in it.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicatePersonException();
-        }
+        checkCanReplace(Collections.emptySet(), List.of(toAdd));
+        int index = internalList.size();
         internalList.add(toAdd);
+        index(index, toAdd);
+    }
+
+    /**
+     * Adds a person to the list at position {@code index}.
+     * The person must not already exist in the list, nor share a unique field with a person in it.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        checkCanReplace(Collections.emptySet(), List.of(toAdd));
+        internalList.add(index, toAdd);
+        index(index, toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list, nor may
+     * it share a unique field with one.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        checkCanReplace(Set.of(target), List.of(editedPerson));
+        internalList.set(index, editedPerson);
+        reindex(target, editedPerson);
+    }
+
+    /**
+     * Adds each of {@code toAdd} to the list at the corresponding position of {@code indexes}, which must be in
+     * ascending order and refer to positions in the resulting list. Listeners are notified of a single change.
+     * The persons must be unique, must not already exist in the list and must not share a unique field with each
+     * other or with a person in the list; otherwise the list is not modified.
+     */
+    public void addAll(List<Integer> indexes, List<Person> toAdd) {
+        requireAllNonNull(indexes, toAdd);
+        assert indexes.size() == toAdd.size();
+        checkCanReplace(Collections.emptySet(), toAdd);
+
+        internalList.runBatch(() -> {
+            for (int i = 0; i < toAdd.size(); i++) {
+                internalList.add(indexes.get(i), toAdd.get(i));
+                index(indexes.get(i), toAdd.get(i));
+            }
+        });
+    }
+
+    /**
+     * Removes the equivalent persons in {@code toRemove} from the list. Listeners are notified of a single change.
+     * The persons must all exist in the list; otherwise the list is not modified.
+     */
+    public void removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        List<Integer> indexes = new ArrayList<>();
+        for (Person person : new HashSet<>(toRemove)) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            indexes.add(index);
         }
 
-        internalList.set(index, editedPerson);
+        // removing from the end first keeps the positions of the persons yet to be removed
+        indexes.sort(Collections.reverseOrder());
+        internalList.runBatch(() -> indexes.forEach(index -> unindex(internalList.remove((int) index))));
     }
 
     /**
@@ -74,27 +197,69 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        unindex(toRemove);
     }
 
+    /**
+     * Replaces the contents of this list with that of {@code replacement}, keeping the unique fields of this list.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor persons sharing a unique field; otherwise the list is
+     * not modified. Takes time linear in the number of persons, as the name and unique field indexes are rebuilt.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        checkCanReplace(new HashSet<>(internalList), persons);
 
         internalList.setAll(persons);
+        positions.setAll(persons.stream().map(Person::getName).collect(Collectors.toList()));
+        personsByField.values().forEach(Map::clear);
+        persons.forEach(this::indexFields);
+    }
+
+    /**
+     * Replaces each of {@code targets} in the list with the corresponding person in {@code editedPersons}.
+     * Listeners are notified of a single change.
+     * The targets must exist in the list, and the edited persons must not have the same identity or share a unique
+     * field with each other or with any other person in the list; otherwise the list is not modified.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        assert targets.size() == editedPersons.size();
+        List<Integer> indexes = new ArrayList<>(targets.size());
+        for (Person target : targets) {
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            indexes.add(index);
+        }
+        checkCanReplace(new HashSet<>(targets), editedPersons);
+
+        internalList.runBatch(() -> {
+            for (int i = 0; i < targets.size(); i++) {
+                internalList.set(indexes.get(i), editedPersons.get(i));
+            }
+        });
+        // the edited persons may swap names with each other, so they are indexed once all targets are unindexed
+        targets.forEach(this::unindex);
+        List<Integer> byPosition = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            byPosition.add(i);
+        }
+        byPosition.sort(Comparator.comparing(indexes::get));
+        byPosition.forEach(i -> index(indexes.get(i), editedPersons.get(i)));
     }
 
     /**
@@ -104,6 +269,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons in the list as an immutable list that later changes to this list do not affect, in constant
+     * time.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return storage.getVersion();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +308,60 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Checks that the persons in the list other than {@code toReplace}, together with {@code toAdd}, would all have
+     * different identities and unique fields. Takes time proportional to the number of persons in {@code toAdd}.
+     *
+     * @throws DuplicatePersonException if two of the persons would have the same identity.
+     * @throws DuplicateFieldException naming the person whose unique field would be shared with another.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private void checkCanReplace(Collection<Person> toReplace, List<Person> toAdd) {
+        Set<Name> replacedNames = toReplace.stream().map(Person::getName).collect(Collectors.toSet());
+        Set<Name> addedNames = new HashSet<>();
+        for (Person person : toAdd) {
+            Name name = person.getName();
+            if (!addedNames.add(name) || positions.contains(name) && !replacedNames.contains(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (Map.Entry<UniqueField, Map<String, Person>> entry : personsByField.entrySet()) {
+            UniqueField field = entry.getKey();
+            Map<String, Person> addedKeys = new HashMap<>();
+            for (Person person : toAdd) {
+                String key = field.keyOf(person);
+                Person existing = entry.getValue().get(key);
+                if (existing != null && !toReplace.contains(existing)) {
+                    throw new DuplicateFieldException(field, existing);
+                }
+                Person added = addedKeys.putIfAbsent(key, person);
+                if (added != null) {
+                    throw new DuplicateFieldException(field, added);
                 }
             }
         }
-        return true;
+    }
+
+    private void index(int position, Person person) {
+        positions.add(position, person.getName());
+        indexFields(person);
+    }
+
+    private void unindex(Person person) {
+        positions.remove(person.getName());
+        unindexFields(person);
+    }
+
+    private void reindex(Person target, Person editedPerson) {
+        positions.replace(target.getName(), editedPerson.getName());
+        unindexFields(target);
+        indexFields(editedPerson);
+    }
+
+    private void indexFields(Person person) {
+        personsByField.forEach((field, index) -> index.put(field.keyOf(person), person));
+    }
+
+    private void unindexFields(Person person) {
+        personsByField.forEach((field, index) -> index.remove(field.keyOf(person), person));
     }
 }
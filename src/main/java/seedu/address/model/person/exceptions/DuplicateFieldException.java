@@ -0,0 +1,33 @@
+package seedu.address.model.person.exceptions;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniqueField;
+
+/**
+ * Signals that the operation will result in two Persons sharing the value of a field that must be unique, such as a
+ * phone number.
+ */
+public class DuplicateFieldException extends RuntimeException {
+
+    public static final String MESSAGE_DUPLICATE_FIELD = "This %1$s already belongs to %2$s";
+
+    private final UniqueField field;
+    private final Person conflictingPerson;
+
+    /**
+     * Creates an exception for a person whose {@code field} has the same value as that of {@code conflictingPerson}.
+     */
+    public DuplicateFieldException(UniqueField field, Person conflictingPerson) {
+        super(String.format(MESSAGE_DUPLICATE_FIELD, field.getDescription(), conflictingPerson.getName()));
+        this.field = field;
+        this.conflictingPerson = conflictingPerson;
+    }
+
+    public UniqueField getField() {
+        return field;
+    }
+
+    public Person getConflictingPerson() {
+        return conflictingPerson;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches persons with a word in their name that contains a term, or that is within a small edit distance of it,
+ * ignoring case. The distance allowed grows with the length of the term, so that short terms are not matched by
+ * unrelated words.
+ */
+public class ApproximateNameQuery implements Query {
+
+    public static final String PREFIX = "~";
+
+    private static final int MIN_LENGTH_FOR_ONE_EDIT = 3;
+    private static final int MIN_LENGTH_FOR_TWO_EDITS = 6;
+
+    private final String term;
+
+    /**
+     * Creates a query matching names approximately containing {@code term}, which is stored in lower case.
+     */
+    public ApproximateNameQuery(String term) {
+        requireNonNull(term);
+        checkArgument(!term.isEmpty() && !term.matches(".*\\s.*"), FieldQuery.MESSAGE_CONSTRAINTS);
+        this.term = term.toLowerCase(Locale.ROOT);
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    /**
+     * Returns the largest number of edits for which a word is considered a misspelling of the term.
+     */
+    public int getMaxDistance() {
+        return term.length() >= MIN_LENGTH_FOR_TWO_EDITS ? 2 : term.length() >= MIN_LENGTH_FOR_ONE_EDIT ? 1 : 0;
+    }
+
+    /**
+     * Returns true if {@code word}, which must be in lower case, contains the term or is a misspelling of it.
+     */
+    public boolean matchesWord(String word) {
+        return word.contains(term) || StringUtil.editDistance(word, term, getMaxDistance()) <= getMaxDistance();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String word : person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (matchesWord(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApproximateNameQuery)) {
+            return false;
+        }
+
+        ApproximateNameQuery otherQuery = (ApproximateNameQuery) other;
+        return term.equals(otherQuery.term);
+    }
+
+    @Override
+    public int hashCode() {
+        return term.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + term;
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of words, which finds the words within a given Levenshtein distance of a term while
+ * comparing the term to only a small part of them.
+ * <p>
+ * Each child of a node is keyed by its distance to the node. By the triangle inequality, a word within {@code k} of
+ * the term can only be below a child whose key is within {@code k} of the distance from the node to the term, so the
+ * other children are not visited. Removed words are only marked as removed, and the tree is rebuilt once most of its
+ * nodes are removed.
+ */
+public class BkTree {
+
+    public static final String MESSAGE_DISTANCE_CONSTRAINTS = "Maximum distance cannot be negative";
+
+    private Node root;
+    private int size;
+    private int removedCount;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.levenshteinDistance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedCount--;
+                    size++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree, if it is in it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.levenshteinDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedCount++;
+                    size--;
+                }
+                break;
+            }
+            node = node.children.get(distance);
+        }
+
+        if (removedCount > size) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes all words from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+        removedCount = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} of {@code term}, closest first and then in alphabetical order.
+     */
+    public List<String> search(String term, int maxDistance) {
+        requireNonNull(term);
+        checkArgument(maxDistance >= 0, MESSAGE_DISTANCE_CONSTRAINTS);
+        Map<String, Integer> matches = new HashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.levenshteinDistance(term, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.put(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+
+        List<String> words = new ArrayList<>(matches.keySet());
+        words.sort(Comparator.<String>comparingInt(matches::get).thenComparing(Comparator.naturalOrder()));
+        return words;
+    }
+
+    /**
+     * Rebuilds the tree from the words that have not been removed.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            node.children.values().forEach(pending::push);
+        }
+
+        clear();
+        words.forEach(this::add);
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
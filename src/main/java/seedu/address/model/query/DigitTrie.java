@@ -0,0 +1,170 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A trie from strings of decimal digits, such as phone numbers, to the persons stored under them.
+ * <p>
+ * Finding the persons stored under a key, or under every key starting with a prefix, takes time proportional to the
+ * length of the key or prefix plus the number of nodes below it, which is at most the number of persons found times
+ * the length of their keys. Storing the reversed keys in a second trie answers suffix lookups in the same way.
+ */
+public class DigitTrie {
+
+    public static final String MESSAGE_CONSTRAINTS = "Trie keys should only contain digits";
+
+    private static final int RADIX = 10;
+
+    private final Node root = new Node();
+
+    /**
+     * Stores {@code person} under {@code key}.
+     */
+    public void add(String key, Person person) {
+        requireAllNonNull(key, person);
+        checkArgument(isValidKey(key), MESSAGE_CONSTRAINTS);
+        Node node = root;
+        node.count++;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrCreateChild(key.charAt(i) - '0');
+            node.count++;
+        }
+        if (node.persons == null) {
+            node.persons = new HashSet<>();
+        }
+        node.persons.add(person);
+    }
+
+    /**
+     * Removes {@code person} from under {@code key}, if it is stored there, dropping the nodes no longer needed.
+     */
+    public void remove(String key, Person person) {
+        requireAllNonNull(key, person);
+        Node node = find(key);
+        if (node == null || node.persons == null || !node.persons.remove(person)) {
+            return;
+        }
+        if (node.persons.isEmpty()) {
+            node.persons = null;
+        }
+
+        node = root;
+        node.count--;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children[key.charAt(i) - '0'];
+            if (--child.count == 0) {
+                node.children[key.charAt(i) - '0'] = null;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes every person.
+     */
+    public void clear() {
+        root.children = null;
+        root.persons = null;
+        root.count = 0;
+    }
+
+    /**
+     * Returns the number of persons stored.
+     */
+    public int size() {
+        return root.count;
+    }
+
+    /**
+     * Returns the persons stored under {@code key}.
+     */
+    public Set<Person> get(String key) {
+        Node node = find(key);
+        return node == null || node.persons == null
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(node.persons);
+    }
+
+    /**
+     * Returns the persons stored under a key starting with {@code prefix}.
+     */
+    public Set<Person> getByPrefix(String prefix) {
+        Node start = find(prefix);
+        if (start == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Person> persons = new HashSet<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.persons != null) {
+                persons.addAll(node.persons);
+            }
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    if (child != null) {
+                        pending.push(child);
+                    }
+                }
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns true if {@code key} can be stored in a trie.
+     */
+    public static boolean isValidKey(String key) {
+        return key.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns the node reached by following {@code key} from the root, or null if there is none.
+     */
+    private Node find(String key) {
+        requireAllNonNull(key);
+        if (!isValidKey(key)) {
+            return null;
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children == null ? null : node.children[key.charAt(i) - '0'];
+        }
+        return node;
+    }
+
+    /**
+     * A node of the trie, reached by following the digits of a key from the root.
+     */
+    private static class Node {
+        /** The children of this node by digit, or null if it has none yet. */
+        private Node[] children;
+        /** The persons stored under the key ending at this node, or null if there are none. */
+        private Set<Person> persons;
+        /** The number of persons stored at or below this node. */
+        private int count;
+
+        Node getOrCreateChild(int digit) {
+            if (children == null) {
+                children = new Node[RADIX];
+            }
+            if (children[digit] == null) {
+                children[digit] = new Node();
+            }
+            return children[digit];
+        }
+    }
+}
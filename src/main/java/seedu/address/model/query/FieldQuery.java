@@ -0,0 +1,184 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.AddressComponents;
+import seedu.address.model.person.AddressComponents.Kind;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests a single field of a {@code Person} against a value.
+ * <ul>
+ *     <li>{@code NAME} matches a full word of the name, ignoring case.</li>
+ *     <li>{@code PHONE} matches the whole phone number, where each {@code *} in the value stands for any digits, e.g.
+ *     {@code 9243*} matches numbers starting with {@code 9243}.</li>
+ *     <li>{@code EMAIL} matches the domain if the value starts with {@code @}, and any part of the email otherwise,
+ *     ignoring case.</li>
+ *     <li>{@code ADDRESS} matches any part of the address, ignoring case. A value qualified with a kind of address
+ *     component, e.g. {@code blk:30} or {@code estate:seran}, instead matches the start of a word of a component of
+ *     that kind, and a value starting with {@code #} matches the start of a unit.</li>
+ *     <li>{@code TAG} matches a whole tag name, ignoring case.</li>
+ * </ul>
+ */
+public class FieldQuery implements Query {
+
+    public static final String MESSAGE_CONSTRAINTS = "Query values cannot be empty or contain whitespace";
+    public static final String WILDCARD = "*";
+    public static final String QUALIFIER_SEPARATOR = ":";
+
+    /**
+     * The fields of a {@code Person} that can be queried, with the prefix used for them in queries.
+     */
+    public enum Field {
+        NAME("n/"), PHONE("p/"), EMAIL("e/"), ADDRESS("a/"), TAG("t/");
+
+        private final String prefix;
+
+        Field(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+    }
+
+    private final Field field;
+    private final String value;
+    /** The pattern matching the phone numbers matched by a value with wildcards, or null if it has none. */
+    private final Pattern phonePattern;
+    /** The kind of address component matched, or null if this query does not match address components. */
+    private final Kind addressKind;
+    /** The start of the address component words matched, or null if this query does not match address components. */
+    private final String addressPrefix;
+
+    /**
+     * Creates a query matching {@code value} against {@code field}.
+     * Values of fields that are matched ignoring case are stored in lower case.
+     */
+    public FieldQuery(Field field, String value) {
+        requireAllNonNull(field, value);
+        checkArgument(!value.isEmpty() && !value.matches(".*\\s.*"), MESSAGE_CONSTRAINTS);
+        this.field = field;
+        this.value = field == Field.PHONE ? value : value.toLowerCase(Locale.ROOT);
+        this.phonePattern = isPhoneWildcardQuery()
+                ? Pattern.compile(Stream.of(value.split(Pattern.quote(WILDCARD), -1))
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining("\\d*")))
+                : null;
+
+        Kind kind = null;
+        String prefix = this.value;
+        int separator = prefix.indexOf(QUALIFIER_SEPARATOR);
+        if (separator >= 0 && Kind.fromQualifier(prefix.substring(0, separator)).isPresent()) {
+            kind = Kind.fromQualifier(prefix.substring(0, separator)).get();
+            prefix = prefix.substring(separator + 1);
+        }
+        if ((kind == null || kind == Kind.UNIT) && prefix.startsWith(AddressComponents.UNIT_PREFIX)) {
+            kind = Kind.UNIT;
+            prefix = prefix.substring(AddressComponents.UNIT_PREFIX.length());
+        }
+        this.addressKind = field == Field.ADDRESS ? kind : null;
+        this.addressPrefix = field == Field.ADDRESS && kind != null ? prefix : null;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the kind of address component that this query matches, if it matches address components.
+     */
+    public Optional<Kind> getAddressKind() {
+        return Optional.ofNullable(addressKind);
+    }
+
+    /**
+     * Returns the start of the address component words that this query matches, if it matches address components.
+     */
+    public Optional<String> getAddressPrefix() {
+        return Optional.ofNullable(addressPrefix);
+    }
+
+    /**
+     * Returns true if this query matches on the email domain alone.
+     */
+    public boolean isEmailDomainQuery() {
+        return field == Field.EMAIL && value.startsWith("@");
+    }
+
+    /**
+     * Returns true if this query matches phone numbers by a value with wildcards.
+     */
+    public boolean isPhoneWildcardQuery() {
+        return field == Field.PHONE && value.contains(WILDCARD);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (field) {
+        case NAME:
+            return StringUtil.containsWordIgnoreCase(person.getName().fullName, value);
+        case PHONE:
+            return phonePattern != null
+                    ? phonePattern.matcher(person.getPhone().value()).matches()
+                    : person.getPhone().value().equals(value);
+        case EMAIL:
+            return isEmailDomainQuery()
+                    ? person.getEmail().getDomain().equalsIgnoreCase(value.substring(1))
+                    : person.getEmail().value().toLowerCase(Locale.ROOT).contains(value);
+        case ADDRESS:
+            String address = person.getAddress().value().toLowerCase(Locale.ROOT);
+            if (addressKind == null) {
+                return address.contains(value);
+            }
+            // a component word is part of the address, so the address is only parsed if it could match
+            return address.contains(addressPrefix)
+                    && AddressComponents.parse(address).getWords(addressKind).stream()
+                            .anyMatch(word -> word.startsWith(addressPrefix));
+        case TAG:
+            return person.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(value));
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherFieldQuery = (FieldQuery) other;
+        return field == otherFieldQuery.field
+                && value.equals(otherFieldQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value);
+    }
+
+    @Override
+    public String toString() {
+        return field.getPrefix() + value;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Matches persons that do not match its operand.
+ */
+public class NotQuery implements Query {
+
+    private final Query operand;
+
+    /**
+     * Creates a query matching the persons that {@code operand} does not match.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return operand.equals(otherNotQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A page of query results: the {@code number}-th run of {@code limit} consecutive results.
+ */
+public class Page {
+
+    public static final String MESSAGE_CONSTRAINTS = "Limit and page should be positive integers";
+
+    private final int limit;
+    private final int number;
+
+    /**
+     * Creates the page numbered {@code number}, counting from 1, of {@code limit} results each.
+     */
+    public Page(int limit, int number) {
+        checkArgument(limit > 0 && number > 0, MESSAGE_CONSTRAINTS);
+        this.limit = limit;
+        this.number = number;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the number of results on the pages before this one.
+     */
+    public long getOffset() {
+        return (long) limit * (number - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Page)) {
+            return false;
+        }
+
+        Page otherPage = (Page) other;
+        return limit == otherPage.limit
+                && number == otherPage.number;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, number);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("limit", limit)
+                .add("number", number)
+                .toString();
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.AddressComponents;
+import seedu.address.model.person.AddressComponents.Kind;
+import seedu.address.model.person.Person;
+
+/**
+ * Hash indexes from the values of selected fields to the persons that have them.
+ * Name words, email domains and tag names are indexed; keys of fields that are matched ignoring case are stored in
+ * lower case. Phone numbers are indexed in two {@code DigitTrie}s, of the numbers and of the reversed numbers, to
+ * find numbers by prefix or suffix as well as in full. Persons are also indexed by the phonetic codes of their name
+ * words, to find names sounding like a term, and by the words of the components of their address, in a sorted map
+ * to find the words starting with a prefix. Name words are also indexed by their trigrams in a
+ * {@code TrigramIndex}, to find names approximately matching a term, and in a {@code BkTree}, to suggest the closest
+ * name words to a term that matches no name. The indexes are kept up to date by passing every change to
+ * {@link #update(AddressBookChange)}.
+ */
+public class PersonIndex {
+
+    private final Map<String, Set<Person>> nameWords = new HashMap<>();
+    private final DigitTrie phones = new DigitTrie();
+    private final DigitTrie reversedPhones = new DigitTrie();
+    private final Map<String, Set<Person>> emailDomains = new HashMap<>();
+    private final Map<String, Set<Person>> tags = new HashMap<>();
+    private final Map<String, Set<Person>> namePhoneticCodes = new HashMap<>();
+    private final TrigramIndex nameTrigrams = new TrigramIndex();
+    private final BkTree nameDictionary = new BkTree();
+    private final NavigableMap<String, Map<Kind, Set<Person>>> addressWords = new TreeMap<>();
+
+    /**
+     * Updates the indexes to reflect {@code change}.
+     */
+    public void update(AddressBookChange change) {
+        requireNonNull(change);
+        if (change.getType() == AddressBookChange.Type.RESET) {
+            nameWords.clear();
+            phones.clear();
+            reversedPhones.clear();
+            emailDomains.clear();
+            tags.clear();
+            namePhoneticCodes.clear();
+            nameTrigrams.clear();
+            nameDictionary.clear();
+            addressWords.clear();
+        } else {
+            change.getOldPersons().forEach(this::remove);
+        }
+        change.getNewPersons().forEach(this::add);
+    }
+
+    /**
+     * Returns the persons matching {@code query} if its field is indexed, or an empty {@code Optional} otherwise.
+     */
+    public Optional<Set<Person>> lookup(FieldQuery query) {
+        requireNonNull(query);
+        switch (query.getField()) {
+        case NAME:
+            return Optional.of(get(nameWords, query.getValue()));
+        case PHONE:
+            return lookupPhone(query);
+        case EMAIL:
+            return query.isEmailDomainQuery()
+                    ? Optional.of(get(emailDomains, query.getValue().substring(1)))
+                    : Optional.empty();
+        case TAG:
+            return Optional.of(get(tags, query.getValue()));
+        case ADDRESS:
+            return query.getAddressKind().isPresent() ? Optional.of(lookupAddress(query)) : Optional.empty();
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the persons with a word in their name approximately matching {@code query}.
+     */
+    public Set<Person> lookup(ApproximateNameQuery query) {
+        requireNonNull(query);
+        Set<Person> persons = new HashSet<>();
+        for (String word : nameTrigrams.findWords(query)) {
+            persons.addAll(nameWords.get(word));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons with a word in their name that sounds like the term of {@code query}.
+     */
+    public Set<Person> lookup(PhoneticNameQuery query) {
+        requireNonNull(query);
+        return get(namePhoneticCodes, query.getCode());
+    }
+
+    /**
+     * Returns the persons whose name contains {@code word} as a full word, ignoring case.
+     */
+    public Set<Person> getByNameWord(String word) {
+        requireNonNull(word);
+        return get(nameWords, word.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the name words within {@code maxDistance} of {@code term}, closest first.
+     */
+    public List<String> getSimilarNameWords(String term, int maxDistance) {
+        requireNonNull(term);
+        return nameDictionary.search(term.toLowerCase(Locale.ROOT), maxDistance);
+    }
+
+    /**
+     * Returns the persons whose phone number matches {@code query}, looked up by the digits before the first
+     * wildcard or after the last one, whichever finds fewer persons. Values with neither, e.g. {@code *123*}, cannot
+     * be looked up.
+     */
+    private Optional<Set<Person>> lookupPhone(FieldQuery query) {
+        String value = query.getValue();
+        if (!query.isPhoneWildcardQuery()) {
+            return Optional.of(phones.get(value));
+        }
+
+        String prefix = value.substring(0, value.indexOf(FieldQuery.WILDCARD));
+        String suffix = value.substring(value.lastIndexOf(FieldQuery.WILDCARD) + 1);
+        if (prefix.isEmpty() && suffix.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Person> byPrefix = prefix.isEmpty() ? null : phones.getByPrefix(prefix);
+        Set<Person> bySuffix = suffix.isEmpty() ? null : reversedPhones.getByPrefix(reverse(suffix));
+        Set<Person> candidates = bySuffix == null || (byPrefix != null && byPrefix.size() <= bySuffix.size())
+                ? byPrefix
+                : bySuffix;
+        boolean isExact = value.equals(prefix + FieldQuery.WILDCARD) || value.equals(FieldQuery.WILDCARD + suffix);
+        return Optional.of(isExact
+                ? candidates
+                : candidates.stream().filter(query).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Returns the persons with an address component word of the kind of {@code query} starting with its prefix.
+     */
+    private Set<Person> lookupAddress(FieldQuery query) {
+        String prefix = query.getAddressPrefix().orElseThrow();
+        Kind kind = query.getAddressKind().orElseThrow();
+        Set<Person> persons = new HashSet<>();
+        // every word starting with the prefix sorts between the prefix and the prefix followed by the largest char
+        for (Map<Kind, Set<Person>> personsByKind : addressWords.subMap(prefix, prefix + Character.MAX_VALUE)
+                .values()) {
+            persons.addAll(personsByKind.getOrDefault(kind, Collections.emptySet()));
+        }
+        return persons;
+    }
+
+    private void add(Person person) {
+        phones.add(person.getPhone().value(), person);
+        reversedPhones.add(reverse(person.getPhone().value()), person);
+        Set<String> words = nameWordsOf(person);
+        words.forEach(nameTrigrams::add);
+        words.stream().filter(word -> !nameWords.containsKey(word)).forEach(nameDictionary::add);
+        forEachKey(person, (index, key) -> index.computeIfAbsent(key, unused -> new HashSet<>()).add(person));
+        forEachAddressWord(person, (kind, word) -> addressWords
+                .computeIfAbsent(word, unused -> new EnumMap<>(Kind.class))
+                .computeIfAbsent(kind, unused -> new HashSet<>())
+                .add(person));
+    }
+
+    private void remove(Person person) {
+        phones.remove(person.getPhone().value(), person);
+        reversedPhones.remove(reverse(person.getPhone().value()), person);
+        Set<String> words = nameWordsOf(person);
+        words.forEach(nameTrigrams::remove);
+        forEachKey(person, (index, key) -> {
+            Set<Person> persons = index.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                index.remove(key);
+            }
+        });
+        words.stream().filter(word -> !nameWords.containsKey(word)).forEach(nameDictionary::remove);
+        forEachAddressWord(person, (kind, word) -> {
+            Map<Kind, Set<Person>> personsByKind = addressWords.get(word);
+            Set<Person> persons = personsByKind == null ? null : personsByKind.get(kind);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByKind.remove(kind);
+                if (personsByKind.isEmpty()) {
+                    addressWords.remove(word);
+                }
+            }
+        });
+    }
+
+    /**
+     * Calls {@code action} with each kind of address component of {@code person} and each word of those components.
+     */
+    private static void forEachAddressWord(Person person, BiConsumer<Kind, String> action) {
+        AddressComponents components = person.getAddress().getComponents();
+        for (Kind kind : Kind.values()) {
+            components.getWords(kind).forEach(word -> action.accept(kind, word));
+        }
+    }
+
+    /**
+     * Calls {@code action} with each index and the key that {@code person} is indexed under in it.
+     */
+    private void forEachKey(Person person, BiConsumer<Map<String, Set<Person>>, String> action) {
+        for (String word : nameWordsOf(person)) {
+            action.accept(nameWords, word);
+        }
+        for (String code : person.getName().getPhoneticCodes()) {
+            action.accept(namePhoneticCodes, code);
+        }
+        action.accept(emailDomains, person.getEmail().getDomain().toLowerCase(Locale.ROOT));
+        Set<String> lowerCaseTags = person.getTags().stream()
+                .map(t -> t.tagName.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        for (String tag : lowerCaseTags) {
+            action.accept(tags, tag);
+        }
+    }
+
+    private static Set<String> nameWordsOf(Person person) {
+        return Stream.of(person.getName().fullName.split("\\s+"))
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    private static String reverse(String text) {
+        return new StringBuilder(text).reverse().toString();
+    }
+
+    private static Set<Person> get(Map<String, Set<Person>> index, String key) {
+        return Collections.unmodifiableSet(index.getOrDefault(key, Collections.emptySet()));
+    }
+}
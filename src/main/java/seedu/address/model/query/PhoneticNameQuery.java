@@ -0,0 +1,92 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches persons with a word in their name that sounds like a term, i.e. that has the same Soundex code, e.g.
+ * {@code burnees} matches {@code Bernice}.
+ */
+public class PhoneticNameQuery implements Query {
+
+    public static final String PREFIX = "ph/";
+    public static final String MESSAGE_CONSTRAINTS = "Terms to match by sound should contain a letter";
+
+    private final String term;
+    private final String code;
+
+    /**
+     * Creates a query matching names with a word sounding like {@code term}, which is stored in lower case.
+     */
+    public PhoneticNameQuery(String term) {
+        requireNonNull(term);
+        checkArgument(isValidTerm(term), MESSAGE_CONSTRAINTS);
+        this.term = term.toLowerCase(Locale.ROOT);
+        this.code = StringUtil.soundex(term);
+    }
+
+    /**
+     * Returns true if {@code term} can be matched by sound.
+     */
+    public static boolean isValidTerm(String term) {
+        return !term.matches(".*\\s.*") && !StringUtil.soundex(term).isEmpty();
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the smallest edit distance between the term and a word of the name of {@code person} that sounds like
+     * it, or {@code Integer.MAX_VALUE} if there is none. Smaller distances mean closer matches.
+     */
+    public int distanceTo(Person person) {
+        requireNonNull(person);
+        int distance = Integer.MAX_VALUE;
+        for (String word : person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (StringUtil.soundex(word).equals(code)) {
+                distance = Math.min(distance, StringUtil.levenshteinDistance(word, term));
+            }
+        }
+        return distance;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getName().getPhoneticCodes().contains(code);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneticNameQuery)) {
+            return false;
+        }
+
+        PhoneticNameQuery otherQuery = (PhoneticNameQuery) other;
+        return term.equals(otherQuery.term);
+    }
+
+    @Override
+    public int hashCode() {
+        return term.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + term;
+    }
+}
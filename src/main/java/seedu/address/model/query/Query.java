@@ -0,0 +1,13 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A node of a compiled {@code find} query.
+ * Queries are predicates over persons that can be inspected by a {@code QueryPlanner} to answer them from indexes.
+ * Implementations are immutable and implement {@code equals} and {@code hashCode}, so that they can be cached.
+ */
+public interface Query extends Predicate<Person> {
+}
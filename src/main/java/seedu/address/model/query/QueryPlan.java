@@ -0,0 +1,96 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Describes how a query was answered: where its candidates came from, what was tested against them, and how long
+ * each stage took.
+ */
+public class QueryPlan {
+
+    public static final String STRATEGY_CACHE = "cache";
+    public static final String STRATEGY_SCAN = "full scan";
+    public static final String STRATEGY_TOP_K = "top-k scan";
+    public static final String STRATEGY_INDEX = "index %1$s";
+    public static final String RESIDUAL_NONE = "none";
+
+    private final String strategy;
+    private final String residual;
+    private final int candidateCount;
+    private final Set<Person> matches;
+    private final Map<String, Long> stageNanos;
+
+    /**
+     * Creates a plan that tested {@code residual} against {@code candidateCount} candidates found by {@code strategy},
+     * yielding {@code matches}.
+     */
+    public QueryPlan(String strategy, String residual, int candidateCount, Set<Person> matches,
+            Map<String, Long> stageNanos) {
+        requireAllNonNull(strategy, residual, matches, stageNanos);
+        this.strategy = strategy;
+        this.residual = residual;
+        this.candidateCount = candidateCount;
+        this.matches = matches;
+        this.stageNanos = Collections.unmodifiableMap(new LinkedHashMap<>(stageNanos));
+    }
+
+    /**
+     * Returns a copy of this plan with an additional stage that took {@code nanos} nanoseconds.
+     */
+    public QueryPlan withStage(String stage, long nanos) {
+        Map<String, Long> stages = new LinkedHashMap<>(stageNanos);
+        stages.put(stage, nanos);
+        return new QueryPlan(strategy, residual, candidateCount, matches, stages);
+    }
+
+    /**
+     * Returns where the candidates were taken from, e.g. an index, the cache or a full scan.
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns a description of the predicate that was tested against each candidate.
+     */
+    public String getResidual() {
+        return residual;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the persons matched by the query. The set is owned by the model and must not be modified.
+     */
+    public Set<Person> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns the time taken by each stage in nanoseconds, in the order the stages were run.
+     */
+    public Map<String, Long> getStageNanos() {
+        return stageNanos;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("strategy", strategy)
+                .add("residual", residual)
+                .add("candidateCount", candidateCount)
+                .add("matchCount", matches.size())
+                .add("stageNanos", stageNanos)
+                .toString();
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Answers queries using a {@code PersonIndex} where possible.
+ * <p>
+ * The planner looks for the most selective indexed condition that every match must satisfy, takes the persons it
+ * indexes as candidates, and only tests the remaining (residual) conditions against those candidates. Queries with
+ * no such condition, e.g. a {@code NOT} or an {@code OR} with an unindexed operand, fall back to a full scan.
+ */
+public class QueryPlanner {
+
+    public static final String STAGE_INDEX = "index";
+    public static final String STAGE_FILTER = "filter";
+
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+    private static final int MAX_SUGGESTIONS_PER_TERM = 3;
+    /** The distance counted for a sounds-like term that no word of a matching person's name sounds like. */
+    private static final int MAX_SOUND_DISTANCE = 100;
+
+    private final PersonIndex index = new PersonIndex();
+
+    /**
+     * Returns true if {@code predicate} is one that this planner can inspect.
+     */
+    public static boolean isPlannable(Predicate<Person> predicate) {
+        return predicate instanceof Query || predicate instanceof NameContainsKeywordsPredicate;
+    }
+
+    /**
+     * Returns true if {@code predicate} can be answered without a full scan.
+     */
+    public boolean hasIndexFor(Predicate<Person> predicate) {
+        return isPlannable(predicate) && findCandidates(predicate).isPresent();
+    }
+
+    /**
+     * Updates the indexes to reflect {@code change}, which has been applied to the address book.
+     */
+    public void update(AddressBookChange change) {
+        index.update(change);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match {@code predicate}, together with the plan used to find them.
+     * {@code persons} must be the contents of the address book that the indexes reflect.
+     */
+    public QueryPlan execute(Predicate<Person> predicate, List<Person> persons) {
+        requireAllNonNull(predicate, persons);
+        assert isPlannable(predicate);
+
+        long startTime = System.nanoTime();
+        Optional<Candidates> candidates = findCandidates(predicate);
+        long indexedTime = System.nanoTime();
+
+        Collection<Person> scanned = candidates.isPresent() ? candidates.get().persons : persons;
+        Predicate<Person> residual = candidates.isPresent() ? candidates.get().residual : predicate;
+        Set<Person> matches = new HashSet<>();
+        for (Person person : scanned) {
+            if (residual == null || residual.test(person)) {
+                matches.add(person);
+            }
+        }
+        long filteredTime = System.nanoTime();
+
+        Map<String, Long> stageNanos = new LinkedHashMap<>();
+        stageNanos.put(STAGE_INDEX, indexedTime - startTime);
+        stageNanos.put(STAGE_FILTER, filteredTime - indexedTime);
+        String strategy = candidates.map(c -> String.format(QueryPlan.STRATEGY_INDEX, c.source))
+                .orElse(QueryPlan.STRATEGY_SCAN);
+        return new QueryPlan(strategy, residual == null ? QueryPlan.RESIDUAL_NONE : residual.toString(),
+                scanned.size(), matches, stageNanos);
+    }
+
+    /**
+     * Returns name words in the address book that are close to the name terms of {@code predicate}, e.g. to suggest
+     * corrections when it matches no one. Terms under a {@code NOT} are ignored, and terms that are themselves name
+     * words are not corrected.
+     */
+    public List<String> suggestNameWords(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        Set<String> suggestions = new LinkedHashSet<>();
+        for (String term : nameTermsOf(predicate)) {
+            List<String> similarWords = index.getSimilarNameWords(term, MAX_SUGGESTION_DISTANCE);
+            if (!similarWords.isEmpty() && similarWords.get(0).equals(term)) {
+                continue;
+            }
+            similarWords.stream().limit(MAX_SUGGESTIONS_PER_TERM).forEach(suggestions::add);
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    /**
+     * Returns {@code matches} ordered from the closest to the furthest match of the sounds-like terms of
+     * {@code predicate}, if it has any outside of a {@code NOT}. A person's distance is the sum, over the terms, of
+     * the smallest edit distance between the term and a name word sounding like it; ties are ordered by name.
+     */
+    public Optional<List<Person>> rankBySound(Predicate<Person> predicate, Collection<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        List<PhoneticNameQuery> terms = new ArrayList<>();
+        collectPhoneticTerms(predicate, terms);
+        if (terms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Person, Long> distances = new HashMap<>();
+        for (Person person : matches) {
+            // persons matching a term only through an OR have no distance to the others
+            distances.put(person, terms.stream()
+                    .mapToLong(term -> Math.min(term.distanceTo(person), MAX_SOUND_DISTANCE))
+                    .sum());
+        }
+        List<Person> ranked = new ArrayList<>(matches);
+        ranked.sort(Comparator.<Person>comparingLong(distances::get)
+                .thenComparing(person -> person.getName().fullName));
+        return Optional.of(ranked);
+    }
+
+    private static void collectPhoneticTerms(Predicate<Person> predicate, List<PhoneticNameQuery> terms) {
+        if (predicate instanceof PhoneticNameQuery) {
+            terms.add((PhoneticNameQuery) predicate);
+        } else if (predicate instanceof AndQuery || predicate instanceof OrQuery) {
+            List<Query> operands = predicate instanceof AndQuery
+                    ? ((AndQuery) predicate).getOperands()
+                    : ((OrQuery) predicate).getOperands();
+            operands.forEach(operand -> collectPhoneticTerms(operand, terms));
+        }
+    }
+
+    private static List<String> nameTermsOf(Predicate<Person> predicate) {
+        List<String> terms = new ArrayList<>();
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            terms.addAll(((NameContainsKeywordsPredicate) predicate).getKeywords());
+        } else if (predicate instanceof FieldQuery && ((FieldQuery) predicate).getField() == FieldQuery.Field.NAME) {
+            terms.add(((FieldQuery) predicate).getValue());
+        } else if (predicate instanceof ApproximateNameQuery) {
+            terms.add(((ApproximateNameQuery) predicate).getTerm());
+        } else if (predicate instanceof AndQuery || predicate instanceof OrQuery) {
+            List<Query> operands = predicate instanceof AndQuery
+                    ? ((AndQuery) predicate).getOperands()
+                    : ((OrQuery) predicate).getOperands();
+            operands.forEach(operand -> terms.addAll(nameTermsOf(operand)));
+        }
+        return terms;
+    }
+
+    /**
+     * Returns a superset of the persons matching {@code predicate} taken from the indexes, if there is one.
+     */
+    private Optional<Candidates> findCandidates(Predicate<Person> predicate) {
+        if (predicate instanceof FieldQuery) {
+            return index.lookup((FieldQuery) predicate)
+                    .map(persons -> new Candidates(persons, null, predicate.toString()));
+        } else if (predicate instanceof ApproximateNameQuery) {
+            // the index verifies every word it returns, so the candidates are exactly the matches
+            return Optional.of(new Candidates(index.lookup((ApproximateNameQuery) predicate), null,
+                    predicate.toString()));
+        } else if (predicate instanceof PhoneticNameQuery) {
+            return Optional.of(new Candidates(index.lookup((PhoneticNameQuery) predicate), null,
+                    predicate.toString()));
+        } else if (predicate instanceof NameContainsKeywordsPredicate) {
+            Set<Person> persons = new HashSet<>();
+            for (String keyword : ((NameContainsKeywordsPredicate) predicate).getKeywords()) {
+                persons.addAll(index.getByNameWord(keyword));
+            }
+            return Optional.of(new Candidates(persons, null, predicate.toString()));
+        } else if (predicate instanceof AndQuery) {
+            return findCandidates((AndQuery) predicate);
+        } else if (predicate instanceof OrQuery) {
+            return findCandidates((OrQuery) predicate);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Picks the operand with the fewest candidates, leaving the other operands as the residual.
+     */
+    private Optional<Candidates> findCandidates(AndQuery query) {
+        List<Query> operands = query.getOperands();
+        Candidates best = null;
+        int bestIndex = -1;
+        for (int i = 0; i < operands.size(); i++) {
+            Optional<Candidates> candidates = findCandidates(operands.get(i));
+            if (candidates.isPresent() && (best == null || candidates.get().persons.size() < best.persons.size())) {
+                best = candidates.get();
+                bestIndex = i;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+
+        List<Query> residuals = new ArrayList<>(operands);
+        residuals.remove(bestIndex);
+        if (best.residual != null) {
+            residuals.add(best.residual);
+        }
+        Query residual = residuals.size() == 1 ? residuals.get(0) : new AndQuery(residuals);
+        return Optional.of(new Candidates(best.persons, residual, best.source));
+    }
+
+    /**
+     * Takes the union of the candidates of every operand, if all of them have candidates.
+     */
+    private Optional<Candidates> findCandidates(OrQuery query) {
+        Set<Person> persons = new HashSet<>();
+        boolean hasResidual = false;
+        for (Query operand : query.getOperands()) {
+            Optional<Candidates> candidates = findCandidates(operand);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            persons.addAll(candidates.get().persons);
+            hasResidual |= candidates.get().residual != null;
+        }
+        return Optional.of(new Candidates(persons, hasResidual ? query : null, query.toString()));
+    }
+
+    /**
+     * A superset of the matches of a query, and the condition that the candidates must still be tested against.
+     */
+    private static class Candidates {
+        private final Set<Person> persons;
+        private final Query residual;
+        private final String source;
+
+        Candidates(Set<Person> persons, Query residual, String source) {
+            this.persons = persons;
+            this.residual = residual;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * The pages of a query's results that have been loaded so far.
+ * <p>
+ * Results are found by scanning the person list in display order and testing each person, stopping as soon as a
+ * page is full. Later pages are loaded on demand by resuming the scan where the previous one stopped, so only as
+ * much of the list is tested as is needed for the pages that are shown. The loaded persons are added to a list in
+ * display order as they are found, so that they can be shown without testing the rest of the person list again.
+ */
+public class ResultWindow {
+
+    private final Predicate<Person> test;
+    private final Page page;
+    private final Set<Person> persons = new HashSet<>();
+    private final List<Person> loadedPersons;
+    private long skipped;
+    private int scanPosition;
+    private int scannedCount;
+
+    /**
+     * Creates an empty window over the persons matching {@code test}, starting at {@code page}, that keeps the
+     * loaded persons in {@code loadedPersons}, in display order. {@code loadedPersons} is cleared, and must not be
+     * modified other than through this window.
+     */
+    public ResultWindow(Predicate<Person> test, Page page, List<Person> loadedPersons) {
+        requireAllNonNull(test, page, loadedPersons);
+        this.test = test;
+        this.page = page;
+        this.loadedPersons = loadedPersons;
+        loadedPersons.clear();
+    }
+
+    /**
+     * Loads the next page of results from {@code orderedPersons}, the person list in display order, and returns the
+     * number of persons added to this window. The first page loaded is the page this window was created with.
+     */
+    public int fetchNextPage(List<Person> orderedPersons) {
+        int added = 0;
+        while (added < page.getLimit() && scanPosition < orderedPersons.size()) {
+            Person person = orderedPersons.get(scanPosition++);
+            scannedCount++;
+            if (!test.test(person)) {
+                continue;
+            }
+            if (skipped < page.getOffset()) {
+                skipped++;
+            } else if (persons.add(person)) {
+                loadedPersons.add(person);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Reloads this window from the start of {@code orderedPersons}, e.g. after it was re-sorted, keeping the number
+     * of persons loaded.
+     */
+    public void reload(List<Person> orderedPersons) {
+        int loadedCount = persons.size();
+        persons.clear();
+        loadedPersons.clear();
+        skipped = 0;
+        scanPosition = 0;
+        do {
+            fetchNextPage(orderedPersons);
+        } while (persons.size() < loadedCount && hasMore(orderedPersons));
+    }
+
+    /**
+     * Returns true if {@code orderedPersons} has persons that have not been scanned, which may match.
+     */
+    public boolean hasMore(List<Person> orderedPersons) {
+        return scanPosition < orderedPersons.size();
+    }
+
+    /**
+     * Returns true if {@code person} is in a loaded page.
+     */
+    public boolean contains(Person person) {
+        return persons.contains(person);
+    }
+
+    /**
+     * Returns the persons in the loaded pages.
+     */
+    public Set<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons tested so far.
+     */
+    public int getScannedCount() {
+        return scannedCount;
+    }
+
+    /**
+     * Updates the loaded pages to reflect {@code change}, before it is applied: an edited person that still matches
+     * stays in place, and removed persons leave the window.
+     */
+    public void update(AddressBookChange change) {
+        if (change.getType() != AddressBookChange.Type.SET && change.getType() != AddressBookChange.Type.REMOVE) {
+            return;
+        }
+        List<Person> oldPersons = change.getOldPersons();
+        List<Person> newPersons = change.getNewPersons();
+        for (int i = 0; i < oldPersons.size(); i++) {
+            if (!persons.remove(oldPersons.get(i))) {
+                continue;
+            }
+            int position = loadedPersons.indexOf(oldPersons.get(i));
+            if (!newPersons.isEmpty() && test.test(newPersons.get(i))) {
+                persons.add(newPersons.get(i));
+                loadedPersons.set(position, newPersons.get(i));
+            } else {
+                loadedPersons.remove(position);
+            }
+        }
+    }
+
+    /**
+     * Keeps the scan position on the same person when persons before it are added to or removed from the
+     * person list in display order.
+     */
+    public void onOrderedPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || from >= scanPosition) {
+                continue;
+            }
+            scanPosition -= Math.min(change.getRemovedSize(), scanPosition - from);
+            scanPosition += change.getAddedSize();
+        }
+    }
+}
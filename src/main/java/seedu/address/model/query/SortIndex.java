@@ -0,0 +1,172 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the persons in the address book ordered by each {@code SortOrder} other than {@code INSERTION}.
+ * <p>
+ * The ordering for a sort order is built the first time it is requested, and is afterwards kept up to date by passing
+ * every change to {@link #update(AddressBookChange)}, so that switching between orders never re-sorts the book.
+ * Persons are ordered by {@code CollationKey}s that are computed once per person, with ties broken by name.
+ */
+public class SortIndex {
+
+    private final Collator collator;
+    private final Map<SortOrder, Ordering> orderings = new EnumMap<>(SortOrder.class);
+
+    /**
+     * Creates an empty {@code SortIndex} that compares text with the default locale's collator, ignoring case.
+     */
+    public SortIndex() {
+        collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+    }
+
+    /**
+     * Returns {@code persons} in {@code order}, which must not be {@code INSERTION}.
+     * {@code persons} must be the current contents of the address book.
+     */
+    public List<Person> getPersons(SortOrder order, List<Person> persons) {
+        requireAllNonNull(order, persons);
+        List<Person> sortedPersons = new ArrayList<>(persons.size());
+        getOrdering(order, persons).keys.forEach(key -> sortedPersons.add(key.person));
+        return sortedPersons;
+    }
+
+    /**
+     * Returns a comparator that orders persons in {@code order}, which must have been requested with
+     * {@link #getPersons(SortOrder, List)}. Only persons in the address book can be compared.
+     */
+    public Comparator<Person> getComparator(SortOrder order) {
+        Ordering ordering = orderings.get(order);
+        assert ordering != null;
+        return Comparator.comparing(ordering.keysByPerson::get);
+    }
+
+    /**
+     * Updates the orderings to reflect {@code change}.
+     */
+    public void update(AddressBookChange change) {
+        requireNonNull(change);
+        for (Map.Entry<SortOrder, Ordering> entry : orderings.entrySet()) {
+            Ordering ordering = entry.getValue();
+            if (change.getType() == AddressBookChange.Type.RESET) {
+                ordering.clear();
+            } else {
+                change.getOldPersons().forEach(ordering::remove);
+            }
+            change.getNewPersons().forEach(person -> ordering.add(keyOf(entry.getKey(), person)));
+        }
+    }
+
+    private Ordering getOrdering(SortOrder order, List<Person> persons) {
+        assert order != SortOrder.INSERTION;
+        Ordering ordering = orderings.get(order);
+        if (ordering == null) {
+            ordering = new Ordering();
+            for (Person person : persons) {
+                ordering.add(keyOf(order, person));
+            }
+            orderings.put(order, ordering);
+        }
+        return ordering;
+    }
+
+    private SortKey keyOf(SortOrder order, Person person) {
+        switch (order) {
+        case NAME:
+            return new SortKey(collator.getCollationKey(person.getName().fullName), person);
+        case EMAIL:
+            return new SortKey(collator.getCollationKey(person.getEmail().value()), person);
+        case TAG:
+            CollationKey firstTag = person.getTags().stream()
+                    .map(tag -> collator.getCollationKey(tag.tagName))
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+            return new SortKey(firstTag, person);
+        default:
+            throw new AssertionError("Persons are not indexed in " + order + " order");
+        }
+    }
+
+    /**
+     * The persons in the address book in a single order, with the key each person is ordered by.
+     */
+    private static class Ordering {
+        private final TreeSet<SortKey> keys = new TreeSet<>();
+        private final Map<Person, SortKey> keysByPerson = new HashMap<>();
+
+        void add(SortKey key) {
+            keys.add(key);
+            keysByPerson.put(key.person, key);
+        }
+
+        void remove(Person person) {
+            SortKey key = keysByPerson.remove(person);
+            if (key != null) {
+                keys.remove(key);
+            }
+        }
+
+        void clear() {
+            keys.clear();
+            keysByPerson.clear();
+        }
+    }
+
+    /**
+     * The position of a person in an order. Persons without a collation key are ordered last.
+     */
+    private static class SortKey implements Comparable<SortKey> {
+        private static final Comparator<SortKey> ORDER = Comparator
+                .comparing((SortKey key) -> key.collationKey, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(key -> key.person.getName().fullName);
+
+        private final CollationKey collationKey;
+        private final Person person;
+
+        SortKey(CollationKey collationKey, Person person) {
+            this.collationKey = collationKey;
+            this.person = person;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SortKey)) {
+                return false;
+            }
+
+            SortKey otherKey = (SortKey) other;
+            return compareTo(otherKey) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return person.getName().fullName.hashCode();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.model.query;
+
+/**
+ * The orders in which the person list can be displayed.
+ */
+public enum SortOrder {
+    /** The order in which persons were added to the address book. */
+    INSERTION,
+    /** Alphabetical order of names. */
+    NAME,
+    /** Alphabetical order of emails. */
+    EMAIL,
+    /** Alphabetical order of the first tag of each person, followed by persons without tags. */
+    TAG
+}
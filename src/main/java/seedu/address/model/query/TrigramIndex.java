@@ -0,0 +1,158 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams (three-character substrings) of name words to the words containing them,
+ * used to find words that approximately match a term without comparing the term to every word.
+ * <p>
+ * Each word is indexed under the trigrams of itself padded with a space on both sides, so that the start and end
+ * of a word also form trigrams. Words are counted, so that a word is only removed once no person has it.
+ * <ul>
+ *     <li>A word containing the term contains every trigram of the unpadded term, so candidates are found by
+ *     intersecting their posting lists.</li>
+ *     <li>A word within {@code d} edits of the term shares at least {@code n - 4d} of the {@code n} padded trigrams of
+ *     the term, as each edit changes at most four of them, so candidates are the words sharing that many. If the
+ *     bound is not positive, every word of a length within {@code d} of the length of the term is a candidate.</li>
+ * </ul>
+ * Candidates are then verified with {@link ApproximateNameQuery#matchesWord(String)}.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_TRIGRAMS_CHANGED_PER_EDIT = 4;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+    private final Map<String, Integer> wordCounts = new HashMap<>();
+
+    /**
+     * Records that one more person has {@code word}, which must be in lower case.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (wordCounts.merge(word, 1, Integer::sum) == 1) {
+            wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word);
+            for (String trigram : paddedTrigramsOf(word)) {
+                wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+            }
+        }
+    }
+
+    /**
+     * Records that one less person has {@code word}, which must be in lower case.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Integer count = wordCounts.get(word);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            wordCounts.put(word, count - 1);
+            return;
+        }
+
+        wordCounts.remove(word);
+        Set<String> sameLengthWords = wordsByLength.get(word.length());
+        sameLengthWords.remove(word);
+        if (sameLengthWords.isEmpty()) {
+            wordsByLength.remove(word.length());
+        }
+        for (String trigram : paddedTrigramsOf(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all words from the index.
+     */
+    public void clear() {
+        wordsByTrigram.clear();
+        wordsByLength.clear();
+        wordCounts.clear();
+    }
+
+    /**
+     * Returns the indexed words that match {@code query}.
+     */
+    public Set<String> findWords(ApproximateNameQuery query) {
+        requireNonNull(query);
+        Set<String> candidates = new HashSet<>(findContainingCandidates(query.getTerm()));
+        candidates.addAll(findSimilarCandidates(query.getTerm(), query.getMaxDistance()));
+        candidates.removeIf(word -> !query.matchesWord(word));
+        return candidates;
+    }
+
+    /**
+     * Returns a superset of the words containing {@code term}.
+     */
+    private Set<String> findContainingCandidates(String term) {
+        if (term.length() < GRAM_LENGTH) {
+            return wordCounts.keySet();
+        }
+
+        // intersecting the shortest posting lists first keeps the intermediate results small
+        List<Set<String>> postings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            postings.add(wordsByTrigram.getOrDefault(term.substring(i, i + GRAM_LENGTH), Collections.emptySet()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<String> words = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !words.isEmpty(); i++) {
+            words.retainAll(postings.get(i));
+        }
+        return words;
+    }
+
+    /**
+     * Returns a superset of the words within {@code maxDistance} edits of {@code term}.
+     */
+    private Set<String> findSimilarCandidates(String term, int maxDistance) {
+        Set<String> trigrams = new HashSet<>(paddedTrigramsOf(term));
+        int minSharedTrigrams = trigrams.size() - MAX_TRIGRAMS_CHANGED_PER_EDIT * maxDistance;
+        if (minSharedTrigrams <= 0) {
+            // the lengths of words within maxDistance edits differ from the length of the term by at most that much
+            Set<String> words = new HashSet<>();
+            for (int length = term.length() - maxDistance; length <= term.length() + maxDistance; length++) {
+                words.addAll(wordsByLength.getOrDefault(length, Collections.emptySet()));
+            }
+            return words;
+        }
+
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        Set<String> words = new HashSet<>();
+        sharedCounts.forEach((word, count) -> {
+            if (count >= minSharedTrigrams) {
+                words.add(word);
+            }
+        });
+        return words;
+    }
+
+    private static List<String> paddedTrigramsOf(String word) {
+        String padded = " " + word + " ";
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
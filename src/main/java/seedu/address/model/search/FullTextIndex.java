@@ -0,0 +1,227 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.model.event.AddressBookEvent;
+import seedu.address.model.event.AddressBookListener;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index over the words of the name, tags, email and address of each person, which ranks the persons
+ * matching a set of search terms by relevance.
+ * <p>
+ * Relevance is scored with BM25F: the occurrences of a term in each field are normalised by the length of that field
+ * relative to its average, weighted by the importance of the field, and summed before BM25 saturation is applied, so
+ * that a term in a short name counts for more than the same term in a long address. Rarer terms count for more than
+ * common ones. Only the best matches are kept while scoring, in a bounded heap, so the hits are never sorted in full.
+ * <p>
+ * The index is kept up to date by listening to the events of the address book, re-indexing only the persons touched.
+ */
+public class FullTextIndex implements AddressBookListener {
+
+    /**
+     * The fields of a person that are indexed, with the weight of a term occurring in each.
+     */
+    public enum Field {
+        NAME(3.0),
+        TAG(2.0),
+        EMAIL(1.0),
+        ADDRESS(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    public static final String MESSAGE_LIMIT_CONSTRAINTS = "The number of results should be positive";
+
+    /** Controls how quickly repeated occurrences of a term stop adding to the score. */
+    private static final double K1 = 1.2;
+    /** Controls how strongly the score is normalised by the length of a field. */
+    private static final double B = 0.75;
+
+    private static final Field[] FIELDS = Field.values();
+    private static final Comparator<ScoredPerson> BEST_FIRST =
+            Comparator.comparingDouble(ScoredPerson::getScore).reversed()
+                    .thenComparing(scoredPerson -> scoredPerson.getPerson().getName().fullName);
+
+    /** The number of occurrences of each term in each field of each person having it. */
+    private final Map<String, Map<Person, int[]>> postings = new HashMap<>();
+    /** The number of terms in each field of each indexed person. */
+    private final Map<Person, int[]> fieldLengths = new HashMap<>();
+    private final long[] totalFieldLengths = new long[FIELDS.length];
+
+    @Override
+    public void onEvents(List<AddressBookEvent> events) {
+        requireNonNull(events);
+        for (AddressBookEvent event : events) {
+            if (event instanceof AddressBookEvent.BookReset) {
+                clear();
+            } else {
+                event.getRemovedPersons().forEach(this::remove);
+            }
+            event.getAddedPersons().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the number of persons indexed.
+     */
+    public int size() {
+        return fieldLengths.size();
+    }
+
+    /**
+     * Returns the at most {@code limit} persons that best match any of the words of {@code keywords}, best first.
+     * Persons with equal scores are ordered by name.
+     */
+    public List<ScoredPerson> search(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit > 0, MESSAGE_LIMIT_CONSTRAINTS);
+        Set<String> terms = new LinkedHashSet<>();
+        keywords.forEach(keyword -> terms.addAll(tokenize(keyword)));
+
+        double[] averageFieldLengths = new double[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            averageFieldLengths[i] = fieldLengths.isEmpty() ? 0 : (double) totalFieldLengths[i] / fieldLengths.size();
+        }
+
+        Map<Person, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Person, int[]> termPostings = postings.getOrDefault(term, Collections.emptyMap());
+            double idf = inverseDocumentFrequency(termPostings.size());
+            termPostings.forEach((person, frequencies) -> {
+                double frequency = weightedFrequency(frequencies, fieldLengths.get(person), averageFieldLengths);
+                scores.merge(person, idf * frequency / (K1 + frequency), Double::sum);
+            });
+        }
+
+        // the heap holds the best matches seen so far, with the worst of them at its head
+        PriorityQueue<ScoredPerson> best = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        scores.forEach((person, score) -> {
+            ScoredPerson match = new ScoredPerson(person, score);
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (BEST_FIRST.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        });
+
+        List<ScoredPerson> matches = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            matches.add(best.poll());
+        }
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    /**
+     * Returns how informative a term found in {@code documentFrequency} persons is; never negative.
+     */
+    private double inverseDocumentFrequency(int documentFrequency) {
+        return Math.log(1 + (fieldLengths.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * Returns the sum over the fields of the weighted occurrences of a term, each normalised by the length of the
+     * field relative to the average length of that field.
+     */
+    private static double weightedFrequency(int[] frequencies, int[] lengths, double[] averageLengths) {
+        double frequency = 0;
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (frequencies[i] == 0) {
+                continue;
+            }
+            double normalisedLength = 1 - B + B * lengths[i] / averageLengths[i];
+            frequency += FIELDS[i].getWeight() * frequencies[i] / normalisedLength;
+        }
+        return frequency;
+    }
+
+    private void add(Person person) {
+        int[] lengths = new int[FIELDS.length];
+        for (Field field : FIELDS) {
+            List<String> terms = termsOf(person, field);
+            lengths[field.ordinal()] = terms.size();
+            totalFieldLengths[field.ordinal()] += terms.size();
+            for (String term : terms) {
+                postings.computeIfAbsent(term, unused -> new HashMap<>())
+                        .computeIfAbsent(person, unused -> new int[FIELDS.length])[field.ordinal()]++;
+            }
+        }
+        fieldLengths.put(person, lengths);
+    }
+
+    private void remove(Person person) {
+        int[] lengths = fieldLengths.remove(person);
+        if (lengths == null) {
+            return;
+        }
+
+        for (Field field : FIELDS) {
+            totalFieldLengths[field.ordinal()] -= lengths[field.ordinal()];
+            for (String term : termsOf(person, field)) {
+                Map<Person, int[]> termPostings = postings.get(term);
+                if (termPostings != null && termPostings.remove(person) != null && termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        postings.clear();
+        fieldLengths.clear();
+        for (int i = 0; i < FIELDS.length; i++) {
+            totalFieldLengths[i] = 0;
+        }
+    }
+
+    private static List<String> termsOf(Person person, Field field) {
+        switch (field) {
+        case NAME:
+            return tokenize(person.getName().fullName);
+        case TAG:
+            List<String> terms = new ArrayList<>();
+            person.getTags().forEach(tag -> terms.addAll(tokenize(tag.tagName)));
+            return terms;
+        case EMAIL:
+            return tokenize(person.getEmail().value());
+        default:
+            return tokenize(person.getAddress().value());
+        }
+    }
+
+    /**
+     * Returns the words of {@code text} in lower case, where a word is a run of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A person matching a full-text search, with the relevance score of the match.
+ */
+public class ScoredPerson {
+
+    private final Person person;
+    private final double score;
+
+    /**
+     * Creates a match of {@code person} with relevance {@code score}.
+     */
+    public ScoredPerson(Person person, double score) {
+        requireNonNull(person);
+        this.person = person;
+        this.score = score;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScoredPerson)) {
+            return false;
+        }
+
+        ScoredPerson otherScoredPerson = (ScoredPerson) other;
+        return person.equals(otherScoredPerson.person)
+                && Double.compare(score, otherScoredPerson.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person)
+                .add("score", score)
+                .toString();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.stats;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable snapshot of the counters of a {@code StatisticsCounter}.
+ * Facets are ordered from the most to the least common, with ties in alphabetical order.
+ */
+public class AddressBookStatistics {
+
+    private final int personCount;
+    private final Map<String, Integer> tagCounts;
+    private final Map<String, Integer> emailDomainCounts;
+
+    /**
+     * Creates a snapshot with the given counters.
+     */
+    public AddressBookStatistics(int personCount, Map<String, Integer> tagCounts,
+            Map<String, Integer> emailDomainCounts) {
+        requireAllNonNull(tagCounts, emailDomainCounts);
+        this.personCount = personCount;
+        this.tagCounts = sortedByCount(tagCounts);
+        this.emailDomainCounts = sortedByCount(emailDomainCounts);
+    }
+
+    private static Map<String, Integer> sortedByCount(Map<String, Integer> counts) {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(sorted);
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the number of persons with each tag, by tag name in lower case.
+     */
+    public Map<String, Integer> getTagCounts() {
+        return tagCounts;
+    }
+
+    /**
+     * Returns the number of persons with an email at each domain, by domain in lower case.
+     */
+    public Map<String, Integer> getEmailDomainCounts() {
+        return emailDomainCounts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookStatistics)) {
+            return false;
+        }
+
+        AddressBookStatistics otherStatistics = (AddressBookStatistics) other;
+        return personCount == otherStatistics.personCount
+                && tagCounts.equals(otherStatistics.tagCounts)
+                && emailDomainCounts.equals(otherStatistics.emailDomainCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personCount, tagCounts, emailDomainCounts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("tagCounts", tagCounts)
+                .add("emailDomainCounts", emailDomainCounts)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.event.AddressBookEvent;
+import seedu.address.model.event.AddressBookListener;
+import seedu.address.model.person.Person;
+
+/**
+ * Counts the persons in the address book, and how many of them have each tag and each email domain.
+ * <p>
+ * The counters are kept exact as the address book changes by listening to its events, and only the persons touched
+ * by each event are looked at. Reading the counters therefore takes time proportional to the number of distinct
+ * tags and domains, not the number of persons.
+ */
+public class StatisticsCounter implements AddressBookListener {
+
+    private int personCount;
+    private final Map<String, Integer> tagCounts = new HashMap<>();
+    private final Map<String, Integer> emailDomainCounts = new HashMap<>();
+
+    @Override
+    public void onEvents(List<AddressBookEvent> events) {
+        requireNonNull(events);
+        for (AddressBookEvent event : events) {
+            if (event instanceof AddressBookEvent.BookReset) {
+                personCount = 0;
+                tagCounts.clear();
+                emailDomainCounts.clear();
+            } else {
+                count(event.getRemovedPersons(), -1);
+            }
+            count(event.getAddedPersons(), 1);
+        }
+    }
+
+    private void count(List<Person> persons, int delta) {
+        for (Person person : persons) {
+            personCount += delta;
+            for (String tag : tagsOf(person)) {
+                adjust(tagCounts, tag, delta);
+            }
+            adjust(emailDomainCounts, emailDomainOf(person), delta);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key}, removing it once no person has it.
+     */
+    private static void adjust(Map<String, Integer> counts, String key, int delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    private static Set<String> tagsOf(Person person) {
+        return person.getTags().stream().map(tag -> tag.tagName.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
+    private static String emailDomainOf(Person person) {
+        return person.getEmail().getDomain().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the current counters.
+     */
+    public AddressBookStatistics getStatistics() {
+        return new AddressBookStatistics(personCount, tagCounts, emailDomainCounts);
+    }
+}
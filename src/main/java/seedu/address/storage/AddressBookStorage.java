@@ -2,10 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonRecord;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +32,14 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the persons in the AddressBook data as records, without checking that they are valid.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if the storage file could not be read.
+     */
+    Optional<List<PersonRecord>> readPersonRecords() throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +52,19 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, followed by {@code invalidRecords}, the stored
+     * persons that were left out of it when it was loaded, unchanged.
+     * @param addressBook cannot be null.
+     * @param invalidRecords cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonRecord> invalidRecords) throws IOException;
+
+    /**
+     * @see #saveAddressBook(ReadOnlyAddressBook, List)
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonRecord> invalidRecords, Path filePath)
+            throws IOException;
+
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonRecord;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -59,6 +61,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    @Override
+    public Optional<List<PersonRecord>> readPersonRecords() throws DataLoadingException {
+        return readPersonRecords(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPersonRecords()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file could not be read.
+     */
+    public Optional<List<PersonRecord>> readPersonRecords(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class)
+                .map(JsonSerializableAddressBook::toRecords);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -70,11 +90,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, List.of(), filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonRecord> invalidRecords)
+            throws IOException {
+        saveAddressBook(addressBook, invalidRecords, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, List)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonRecord> invalidRecords, Path filePath)
+            throws IOException {
         requireNonNull(addressBook);
+        requireNonNull(invalidRecords);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook, invalidRecords), filePath);
     }
 
 }
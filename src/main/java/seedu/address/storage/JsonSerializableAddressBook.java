@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecord;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -37,7 +38,18 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this(source, List.of());
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, followed by
+     * {@code invalidRecords}, the stored persons that were left out of it, as they were stored.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, List<PersonRecord> invalidRecords) {
+        persons.addAll(source.getPersonSnapshot().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        persons.addAll(invalidRecords.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
     /**
@@ -57,4 +69,12 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts the persons in this address book into the model's {@code PersonRecord} objects, in order, without
+     * checking them.
+     */
+    public List<PersonRecord> toRecords() {
+        return persons.stream().map(JsonAdaptedPerson::toRecord).collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,53 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.model.stats.AddressBookStatistics;
+
+/**
+ * Panel showing the number of persons with each tag and each email domain.
+ */
+public class FacetPanel extends UiPart<Region> {
+
+    public static final String MESSAGE_TOTAL = "%1$d persons";
+    public static final String MESSAGE_FACET = "%1$s (%2$d)";
+
+    private static final String FXML = "FacetPanel.fxml";
+
+    @FXML
+    private Label totalLabel;
+
+    @FXML
+    private ListView<String> tagListView;
+
+    @FXML
+    private ListView<String> emailDomainListView;
+
+    public FacetPanel() {
+        super(FXML);
+    }
+
+    /**
+     * Shows the counts in {@code statistics}.
+     */
+    public void setStatistics(AddressBookStatistics statistics) {
+        requireNonNull(statistics);
+        totalLabel.setText(String.format(MESSAGE_TOTAL, statistics.getPersonCount()));
+        tagListView.getItems().setAll(format(statistics.getTagCounts()));
+        emailDomainListView.getItems().setAll(format(statistics.getEmailDomainCounts()));
+    }
+
+    private static List<String> format(Map<String, Integer> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> String.format(MESSAGE_FACET, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+}
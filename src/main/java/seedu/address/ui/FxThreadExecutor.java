@@ -0,0 +1,25 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+
+/**
+ * An {@code Executor} that runs tasks on the JavaFX application thread.
+ * Tasks submitted from the JavaFX application thread are run immediately; tasks submitted from other threads are
+ * queued with {@link Platform#runLater(Runnable)} and run in submission order.
+ */
+public class FxThreadExecutor implements Executor {
+
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -14,8 +17,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -26,6 +27,7 @@ public class MainWindow extends UiPart<Stage> {
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
+    private final Executor fxThreadExecutor = new FxThreadExecutor();
 
     private Stage primaryStage;
     private Logic logic;
@@ -33,7 +35,9 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private FacetPanel facetPanel;
     private HelpWindow helpWindow;
+    private boolean isFetchingPersons;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -44,6 +48,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane personListPanelPlaceholder;
 
+    @FXML
+    private StackPane facetPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -110,9 +117,13 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), this::fetchMorePersons);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
+        facetPanel = new FacetPanel();
+        refreshStatistics();
+        facetPanelPlaceholder.getChildren().add(facetPanel.getRoot());
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
@@ -168,29 +179,73 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command off the JavaFX application thread.
+     * The returned future completes on the JavaFX application thread after the UI has been updated.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        resultDisplay.setBusy(commandText);
+        CompletableFuture<CommandResult> result = logic.executeAsync(commandText)
+                .whenCompleteAsync((commandResult, error) -> handleCommandCompletion(commandText, commandResult,
+                        error), fxThreadExecutor);
+        // counted after the command, which may have changed the book even if it failed, by rolling back a transaction
+        refreshStatistics();
+        return result;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the current statistics of the address book in the facet panel once they have been counted on the command
+     * thread. The counts are maintained by the model, so counting them does not depend on the size of the book.
+     */
+    private void refreshStatistics() {
+        logic.getAddressBookStatisticsAsync()
+                .whenCompleteAsync((statistics, error) -> {
+                    if (error != null) {
+                        logger.warning("Could not count persons: " + error.getMessage());
+                        return;
+                    }
+                    facetPanel.setStatistics(statistics);
+                }, fxThreadExecutor);
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+    /**
+     * Loads the next page of persons into the person list, unless a page is already being loaded.
+     */
+    private void fetchMorePersons() {
+        if (isFetchingPersons) {
+            return;
+        }
+        isFetchingPersons = true;
+        logic.fetchMorePersonsAsync()
+                .whenCompleteAsync((added, error) -> {
+                    isFetchingPersons = false;
+                    if (error != null) {
+                        logger.warning("Could not load more persons: " + error.getMessage());
+                    }
+                }, fxThreadExecutor);
+    }
+
+    /**
+     * Updates the UI with the outcome of executing {@code commandText}.
+     */
+    private void handleCommandCompletion(String commandText, CommandResult commandResult, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(cause.getMessage());
+            return;
+        }
+
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
@@ -20,11 +20,22 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final Runnable onEndReached;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
     public PersonListPanel(ObservableList<Person> personList) {
+        this(personList, () -> {});
+    }
+
+    /**
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList} that runs {@code onEndReached}
+     * whenever the last person in the list is shown, e.g. to load more persons.
+     */
+    public PersonListPanel(ObservableList<Person> personList, Runnable onEndReached) {
         super(FXML);
+        this.onEndReached = onEndReached;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
@@ -42,6 +53,9 @@ public class PersonListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (getIndex() == getListView().getItems().size() - 1) {
+                    onEndReached.run();
+                }
             }
         }
     }
@@ -11,6 +11,8 @@ import javafx.scene.layout.Region;
  */
 public class ResultDisplay extends UiPart<Region> {
 
+    public static final String MESSAGE_BUSY = "Executing: %1$s";
+
     private static final String FXML = "ResultDisplay.fxml";
 
     @FXML
@@ -25,4 +27,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows that {@code commandText} is still being executed.
+     */
+    public void setBusy(String commandText) {
+        requireNonNull(commandText);
+        resultDisplay.setText(String.format(MESSAGE_BUSY, commandText));
+    }
+
 }
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+
+    @Test
+    public void backedBy_sequentialAccessList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> BatchObservableList.backedBy(new LinkedList<>()));
+    }
+
+    @Test
+    public void backedBy_randomAccessList_randomAccess() {
+        assertTrue(BatchObservableList.backedBy(new ArrayList<>()) instanceof RandomAccess);
+    }
+
+    @Test
+    public void runBatch_severalModifications_listenersNotifiedOnce() {
+        BatchObservableList<String> list = new BatchObservableList<>(List.of("a", "b"));
+        int[] changeCount = {0};
+        list.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        list.runBatch(() -> {
+            list.add("c");
+            list.remove("a");
+        });
+        assertEquals(List.of("b", "c"), list);
+        assertEquals(1, changeCount[0]);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertSame(list, PersistentList.copyOf(list));
+        assertSame(PersistentList.empty(), PersistentList.copyOf(List.of()));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void copyOf_manyElements_equalList() {
+        List<Integer> expected = range(0, 100000);
+        PersistentList<Integer> list = PersistentList.copyOf(expected);
+        assertEquals(expected, list);
+        assertEquals(99999, list.get(99999));
+        assertEquals(54321, list.indexOf(54321));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100000));
+    }
+
+    @Test
+    public void plusWithMinus_randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(expected.size() < 3000 ? 3 : 4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+
+            if (i % 1000 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        // earlier versions are unaffected by later changes
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void minus_allElements_emptyList() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(0, 5000));
+        for (int i = 0; i < 5000; i++) {
+            list = list.minus(i % 2 == 0 ? 0 : list.size() - 1);
+        }
+        assertSame(PersistentList.empty(), list);
+    }
+
+    @Test
+    public void plusAll_fewOrManyElements_appended() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(0, 1000));
+        assertEquals(range(0, 1010), list.plusAll(range(1000, 1010)));
+        assertEquals(range(0, 3000), list.plusAll(range(1000, 3000)));
+        assertEquals(range(0, 1000), list);
+    }
+
+    @Test
+    public void add_anyElement_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.<Integer>empty().add(1));
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> range = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            range.add(i);
+        }
+        return range;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final PositionIndex<Integer> index = new PositionIndex<>();
+
+    @Test
+    public void add_duplicateKey_throwsIllegalArgumentException() {
+        index.add(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> index.add(1, 1));
+    }
+
+    @Test
+    public void setAll_duplicateKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.setAll(List.of(1, 2, 1)));
+        assertFalse(index.contains(2));
+    }
+
+    @Test
+    public void indexOf_randomChanges_sameAsList() {
+        Random random = new Random(0);
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            keys.add(i);
+        }
+        index.setAll(keys);
+        assertPositions(keys);
+
+        int nextKey = keys.size();
+        for (int i = 0; i < 3000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            switch (random.nextInt(3)) {
+            case 0:
+                keys.add(position, nextKey);
+                index.add(position, nextKey++);
+                break;
+            case 1:
+                if (position < keys.size()) {
+                    assertEquals(position, index.remove(keys.remove(position)));
+                }
+                break;
+            default:
+                if (position < keys.size()) {
+                    index.replace(keys.set(position, nextKey), nextKey++);
+                }
+                break;
+            }
+        }
+        assertPositions(keys);
+        assertEquals(-1, index.indexOf(-1));
+    }
+
+    private void assertPositions(List<Integer> keys) {
+        assertEquals(keys.size(), index.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, index.indexOf(keys.get(i)));
+        }
+    }
+}
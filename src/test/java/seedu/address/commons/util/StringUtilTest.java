@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,50 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex_validInputs_correctResult() {
+        assertEquals("B652", StringUtil.soundex("Bernice"));
+        assertEquals("B652", StringUtil.soundex("burnees"));
+        assertEquals("Y000", StringUtil.soundex("yu")); // padded with zeros
+        assertEquals("R163", StringUtil.soundex("Rupert"));
+        assertEquals("A261", StringUtil.soundex("Ashcraft")); // h does not separate c from s
+        assertEquals("H555", StringUtil.soundex("Honeyman")); // vowels separate the same digit
+        assertEquals("P236", StringUtil.soundex("Pfister")); // f is coded like the first letter
+        assertEquals("T522", StringUtil.soundex("Tymczak"));
+        assertEquals("", StringUtil.soundex("123"));
+    }
+
+    //---------------- Tests for levenshteinDistance --------------------------------------
+
+    @Test
+    public void levenshteinDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.levenshteinDistance("", ""));
+        assertEquals(5, StringUtil.levenshteinDistance("", "alice"));
+        assertEquals(2, StringUtil.levenshteinDistance("alex", "alxe")); // a swap is two substitutions
+        assertEquals(3, StringUtil.levenshteinDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("a", "b", -1));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("alex", "alex", 2));
+        assertEquals(1, StringUtil.editDistance("alex", "alxe", 2)); // swap
+        assertEquals(1, StringUtil.editDistance("yeoh", "yeo", 2)); // deletion
+        assertEquals(1, StringUtil.editDistance("yeo", "yeoh", 2)); // insertion
+        assertEquals(2, StringUtil.editDistance("bernice", "bernyse", 2)); // substitutions
+        assertEquals(3, StringUtil.editDistance("bob", "alice", 2)); // lengths too different
+        assertEquals(2, StringUtil.editDistance("kitten", "sitting", 1)); // capped at maxDistance + 1
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
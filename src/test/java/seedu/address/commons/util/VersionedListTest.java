@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class VersionedListTest {
+
+    private final VersionedList<String> list = new VersionedList<>();
+
+    @Test
+    public void getVersion_laterChanges_versionUnchanged() {
+        list.addAll(List.of("a", "b", "c"));
+        PersistentList<String> version = list.getVersion();
+        assertSame(version, list.getVersion());
+
+        list.add("d");
+        list.set(0, "e");
+        list.add(1, "f");
+        list.remove("b");
+        assertEquals(List.of("a", "b", "c"), version);
+        assertEquals(List.of("e", "f", "c", "d"), list);
+        assertEquals(list, list.getVersion());
+    }
+
+    @Test
+    public void removeRange_fewOrManyElements_removed() {
+        for (int i = 0; i < 100; i++) {
+            list.add(String.valueOf(i));
+        }
+        list.subList(10, 20).clear();
+        assertEquals(90, list.size());
+        assertEquals("20", list.get(10));
+
+        list.subList(0, 80).clear();
+        assertEquals(10, list.size());
+        assertEquals("90", list.get(0));
+        assertEquals(3, list.indexOf("93"));
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_TRANSACTION_IN_PROGRESS;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -9,25 +12,38 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecord;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -70,6 +86,163 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        Throwable error = logic.executeAsync("uicfhmowqewca").handle((result, e) -> e).get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void deletePerson(Person target) {
+                throw new StackOverflowError();
+            }
+        };
+        setUp();
+
+        Throwable error = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1").handle((result, e) -> e)
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof StackOverflowError);
+
+        // the command thread is still running commands
+        assertEquals(ListCommand.MESSAGE_SUCCESS,
+                logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS).getFeedbackToUser());
+    }
+
+    @Test
+    public void getAddressBookStatisticsAsync_afterCommand_countsChanges() throws Exception {
+        logic.executeAsync(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertEquals(1, logic.getAddressBookStatisticsAsync().get(5, TimeUnit.SECONDS).getPersonCount());
+    }
+
+    @Test
+    public void executeAsync_multipleCommands_executedInSubmissionOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> add = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> duplicateAdd = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> delete = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+
+        add.get(5, TimeUnit.SECONDS);
+        Throwable error = duplicateAdd.handle((result, e) -> e).get(5, TimeUnit.SECONDS);
+        assertEquals(AddCommand.MESSAGE_DUPLICATE_PERSON, error.getMessage());
+        delete.get(5, TimeUnit.SECONDS);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_loadedWithInvalidRecords_keptUntilCleared() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        PersonRecord invalidRecord = new PersonRecord("Hans", "948asdf2424", "hans@example.com", "4th street",
+                List.of());
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        addressBookStorage.saveAddressBook(new ModelManager().getAddressBook(), List.of(invalidRecord));
+        model.setInvalidRecords(List.of(new InvalidPersonRecord(1, invalidRecord, Phone.MESSAGE_CONSTRAINTS)));
+        int[] saveCount = {0};
+        logic = new LogicManager(model, getSaveCountingStorage(saveCount));
+
+        // a data file that was loaded is not saved until it changes
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        // the invalid records are written back along with the changes
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+        assertEquals(List.of(PersonRecord.of(new PersonBuilder(AMY).withTags().build()), invalidRecord),
+                addressBookStorage.readPersonRecords().get());
+
+        logic.execute(VerifyCommand.COMMAND_WORD + " " + VerifyCommand.CLEAR_WORD);
+        assertEquals(2, saveCount[0]);
+        assertEquals(List.of(PersonRecord.of(new PersonBuilder(AMY).withTags().build())),
+                addressBookStorage.readPersonRecords().get());
+    }
+
+    @Test
+    public void execute_transactionCommitted_savedOnce() throws Exception {
+        int[] saveCount = {0};
+        logic = new LogicManager(model, getSaveCountingStorage(saveCount));
+
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_addressBookUnchanged_notSavedAgain() throws Exception {
+        int[] saveCount = {0};
+        logic = new LogicManager(model, getSaveCountingStorage(saveCount));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_commandFailsInTransaction_transactionRolledBack() throws Exception {
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertCommandFailure(DeleteCommand.COMMAND_WORD + " 9", CommandException.class, String.format(
+                LogicManager.MESSAGE_TRANSACTION_ROLLED_BACK, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX),
+                new ModelManager());
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_commandRejectedInTransaction_transactionKept() throws Exception {
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        Person amy = new PersonBuilder(AMY).withTags().build();
+
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, BeginCommand.MESSAGE_ALREADY_IN_TRANSACTION, () ->
+                logic.execute(BeginCommand.COMMAND_WORD));
+        assertThrows(CommandException.class, MESSAGE_TRANSACTION_IN_PROGRESS, () ->
+                logic.execute(UndoCommand.COMMAND_WORD));
+        assertTrue(model.isInTransaction());
+        assertTrue(model.hasPerson(amy));
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertTrue(model.hasPerson(amy));
+    }
+
+    @Test
+    public void execute_commandThrowsUncheckedExceptionInTransaction_transactionRolledBack() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void deletePerson(Person target) {
+                super.deletePerson(target);
+                throw new PersonNotFoundException();
+            }
+        };
+        setUp();
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertThrows(PersonNotFoundException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 1"));
+        assertEquals(new ModelManager(), model);
+        assertFalse(model.isInTransaction());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -140,6 +313,24 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a {@code StorageManager} that counts the number of times the address book is saved in
+     * {@code saveCount[0]}.
+     */
+    private StorageManager getSaveCountingStorage(int[] saveCount) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonRecord> invalidRecords,
+                            Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, invalidRecords, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -152,8 +343,8 @@ public class LogicManagerTest {
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
-                    throws IOException {
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonRecord> invalidRecords,
+                    Path filePath) throws IOException {
                 throw e;
             }
         };
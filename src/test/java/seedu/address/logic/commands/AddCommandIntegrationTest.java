@@ -12,6 +12,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniqueField;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -45,4 +47,23 @@ public class AddCommandIntegrationTest {
                 AddCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_duplicatePhone_failsOnlyIfPhonesUnique() {
+        Person personInList = model.getAddressBook().getPersonList().get(0);
+        Person samePhone = new PersonBuilder().withPhone(personInList.getPhone().value()).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPhoneUnique(true);
+        model.setUserPrefs(userPrefs);
+
+        assertCommandFailure(new AddCommand(samePhone), model,
+                String.format(DuplicateFieldException.MESSAGE_DUPLICATE_FIELD,
+                        UniqueField.PHONE.getDescription(), personInList.getName()));
+
+        model.setUserPrefs(new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(samePhone);
+        assertCommandSuccess(new AddCommand(samePhone), model,
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(samePhone)), expectedModel);
+    }
+
 }
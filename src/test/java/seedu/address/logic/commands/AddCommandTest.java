@@ -10,7 +10,10 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,7 +25,16 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.cache.CacheStatistics;
+import seedu.address.model.event.AddressBookListener;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.SortOrder;
+import seedu.address.model.search.ScoredPerson;
+import seedu.address.model.stats.AddressBookStatistics;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -157,6 +169,156 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getDisplayedPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CacheStatistics getQueryCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<InvalidPersonRecord> getInvalidRecords() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setInvalidRecords(List<InvalidPersonRecord> invalidRecords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookStatistics getAddressBookStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAddressBookListener(AddressBookListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeAddressBookListener(AddressBookListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan executeQuery(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan executeQuery(Predicate<Person> predicate, Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> suggestNameWords(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScoredPerson> searchPersons(List<String> keywords, Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortOrder getSortOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSortOrder(SortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMorePersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int fetchMorePersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan deletePersons(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan editPersons(Query query, UnaryOperator<Person> editor) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -195,6 +357,12 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public boolean commitAddressBook() {
+            // called by {@code AddCommand#execute()}
+            return true;
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
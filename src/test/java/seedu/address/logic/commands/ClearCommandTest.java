@@ -1,10 +1,12 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -29,4 +31,18 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_largerThanUndoHistory_warnsEarlierChangesLost() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryCapacity(1);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        expectedModel.setAddressBook(new AddressBook());
+
+        assertCommandSuccess(new ClearCommand(), model,
+                ClearCommand.MESSAGE_SUCCESS + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED, expectedModel);
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
 }
@@ -108,7 +108,7 @@ public class CommandTestUtil {
         List<Person> expectedFilteredList = new ArrayList<>(actualModel.getFilteredPersonList());
 
         assertThrows(CommandException.class, expectedMessage, () -> command.execute(actualModel));
-        assertEquals(expectedAddressBook, actualModel.getAddressBook());
+        assertEquals(expectedAddressBook, new AddressBook(actualModel.getAddressBook()));
         assertEquals(expectedFilteredList, actualModel.getFilteredPersonList());
     }
     /**
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.Messages.MESSAGE_NO_TRANSACTION;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BeginCommand} and {@code CommitCommand}.
+ */
+public class CommitCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noTransaction_failure() {
+        assertCommandFailure(new CommitCommand(), model, MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void execute_beginTwice_failure() {
+        assertCommandSuccess(new BeginCommand(), model, BeginCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new BeginCommand(), model, BeginCommand.MESSAGE_ALREADY_IN_TRANSACTION);
+    }
+
+    @Test
+    public void execute_inTransaction_changesKeptAsSingleUndoStep() {
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+        assertCommandSuccess(new CommitCommand(), model, CommitCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isInTransaction());
+
+        model.undoAddressBook();
+        assertFalse(model.canUndoAddressBook());
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class DedupeCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noDuplicates_showsAllPersons() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new DedupeCommand(), model, DedupeCommand.MESSAGE_NO_DUPLICATES, expectedModel);
+    }
+
+    @Test
+    public void execute_duplicates_reportedAndListed() {
+        Person benson = new PersonBuilder(BENSON).withName("benson meier").withEmail("benson@example.com").build();
+        model.addPerson(benson);
+
+        String feedback = new DedupeCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(DedupeCommand.MESSAGE_SUCCESS, 1, 2)));
+        assertTrue(feedback.contains("1. [1.00] "));
+        assertTrue(feedback.contains("Benson Meier, benson meier (same name, same phone, similar name and address)"));
+        assertEquals(Arrays.asList(BENSON, benson), model.getFilteredPersonList());
+    }
+}
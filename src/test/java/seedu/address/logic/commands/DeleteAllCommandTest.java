@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlanner;
+
+public class DeleteAllCommandTest {
+
+    private static final Query FRIENDS = new FieldQuery(Field.TAG, "friends");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_matchingPersons_deletedInOneChange() {
+        int[] changeCount = new int[1];
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        String feedback = new DeleteAllCommand(FRIENDS).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(DeleteAllCommand.MESSAGE_SUCCESS, 3)));
+        assertTrue(feedback.contains(QueryPlanner.STAGE_FILTER));
+        assertTrue(feedback.contains(Model.STAGE_APPLY));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatchingPersons_nothingDeleted() {
+        String feedback = new DeleteAllCommand(new FieldQuery(Field.TAG, "vip")).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(DeleteAllCommand.MESSAGE_SUCCESS, 0)));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand command = new DeleteAllCommand(FRIENDS);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new DeleteAllCommand(new FieldQuery(Field.TAG, "friends"))));
+        assertFalse(command.equals(new DeleteAllCommand(new FieldQuery(Field.TAG, "vip"))));
+        assertFalse(command.equals(null));
+    }
+}
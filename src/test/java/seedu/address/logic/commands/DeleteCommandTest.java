@@ -41,6 +41,22 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_largerThanUndoHistory_warnsEarlierChangesLost() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryCapacity(0);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(personToDelete)) + "\n" + Messages.MESSAGE_UNDO_HISTORY_EXCEEDED;
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), userPrefs);
+        expectedModel.deletePerson(personToDelete);
+
+        assertCommandSuccess(new DeleteCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DiagnosticsCommand}.
+ */
+public class DiagnosticsCommandTest {
+
+    @Test
+    public void execute_repeatedFind_reportsHitsAndMisses() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Meier"));
+        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.format(DiagnosticsCommand.MESSAGE_QUERY_CACHE, 1, 1, 0, 1, 32);
+        assertCommandSuccess(new DiagnosticsCommand(), model, expectedMessage, expectedModel);
+    }
+}
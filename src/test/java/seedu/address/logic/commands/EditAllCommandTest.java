@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class EditAllCommandTest {
+
+    private static final Query FRIENDS = new FieldQuery(Field.TAG, "friends");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_matchingPersons_editedInOneChange() {
+        int[] changeCount = new int[1];
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        EditAllCommand command = new EditAllCommand(FRIENDS, Set.of(new Tag("vip")), Set.of(new Tag("owesMoney")));
+
+        String feedback = command.execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(EditAllCommand.MESSAGE_SUCCESS, 3, 3)));
+        assertTrue(feedback.contains(QueryPlanner.STAGE_FILTER));
+        assertTrue(feedback.contains(Model.STAGE_EDIT));
+        assertTrue(feedback.contains(Model.STAGE_APPLY));
+        assertEquals(1, changeCount[0]);
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("friends", "vip").build();
+        Person editedBenson = new PersonBuilder(BENSON).withTags("friends", "vip").build();
+        Person editedDaniel = new PersonBuilder(DANIEL).withTags("friends", "vip").build();
+        assertEquals(Arrays.asList(editedAlice, editedBenson, editedDaniel),
+                model.findPersons(new FieldQuery(Field.TAG, "vip")));
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_personsAlreadyTagged_onlyChangedPersonsEdited() {
+        EditAllCommand command = new EditAllCommand(FRIENDS, Set.of(new Tag("owesMoney")), Set.of());
+        String feedback = command.execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(EditAllCommand.MESSAGE_SUCCESS, 2, 3)));
+
+        Query query = new FieldQuery(Field.NAME, "nobody");
+        feedback = new EditAllCommand(query, Set.of(new Tag("vip")), Set.of()).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(EditAllCommand.MESSAGE_SUCCESS, 0, 0)));
+    }
+
+    @Test
+    public void equals() {
+        EditAllCommand command = new EditAllCommand(FRIENDS, Set.of(new Tag("vip")), Set.of());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new EditAllCommand(FRIENDS, Set.of(new Tag("vip")), Set.of())));
+        assertFalse(command.equals(new EditAllCommand(FRIENDS, Set.of(), Set.of(new Tag("vip")))));
+        assertFalse(command.equals(new EditAllCommand(new FieldQuery(Field.TAG, "vip"), Set.of(new Tag("vip")),
+                Set.of())));
+        assertFalse(command.equals(null));
+    }
+}
@@ -25,6 +25,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniqueField;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -108,6 +110,28 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_duplicatePhoneWithUniquePhones_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPhoneUnique(true);
+        model.setUserPrefs(userPrefs);
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        EditCommand takePhone = new EditCommand(INDEX_SECOND_PERSON,
+                new EditPersonDescriptorBuilder().withPhone(firstPerson.getPhone().value()).build());
+        assertCommandFailure(takePhone, model, String.format(DuplicateFieldException.MESSAGE_DUPLICATE_FIELD,
+                UniqueField.PHONE.getDescription(), firstPerson.getName()));
+
+        // renaming a person keeps their own phone number
+        EditCommand rename = new EditCommand(INDEX_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build());
+        Person renamed = new PersonBuilder(firstPerson).withName(VALID_NAME_BOB).build();
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), userPrefs);
+        expectedModel.setPerson(firstPerson, renamed);
+        assertCommandSuccess(rename, model, String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS,
+                Messages.format(renamed)), expectedModel);
+    }
+
     @Test
     public void execute_duplicatePersonFilteredList_failure() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -15,10 +18,20 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.PhoneticNameQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -64,6 +77,25 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_misspelledKeywords_suggestsCloseNames() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0) + "\n"
+                + String.format(FindCommand.MESSAGE_DID_YOU_MEAN, "kunz, kurz, meier, meyer");
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kuns meir");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_phoneticName_closestSoundingNamesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PhoneticNameQuery query = new PhoneticNameQuery("mayer");
+        expectedModel.executeQuery(query);
+        assertCommandSuccess(new FindCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_multipleKeywords_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
@@ -74,11 +106,47 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_compoundQuery_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        Query query = new AndQuery(Arrays.asList(new FieldQuery(Field.NAME, "meier"),
+                new NotQuery(new FieldQuery(Field.TAG, "owesMoney"))));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_describesPlan() {
+        Query query = new AndQuery(Arrays.asList(new FieldQuery(Field.TAG, "friends"),
+                new FieldQuery(Field.NAME, "meier")));
+        String feedback = new FindCommand(query, true).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2)));
+        assertTrue(feedback.contains(String.format(FindCommand.MESSAGE_PLAN, "index n/meier", 2, "t/friends", 2)));
+        assertTrue(feedback.contains(QueryPlanner.STAGE_INDEX));
+        assertTrue(feedback.contains(QueryPlanner.STAGE_FILTER));
+    }
+
+    @Test
+    public void execute_page_onlyPageListed() {
+        Page page = new Page(2, 1);
+        Query query = new NotQuery(new FieldQuery(Field.TAG, "owesMoney"));
+        String feedback = new FindCommand(query, true, page).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(Messages.formatPageListed(2, page, true)));
+        assertTrue(feedback.contains(String.format(FindCommand.MESSAGE_PLAN, QueryPlan.STRATEGY_TOP_K, 3,
+                query.toString(), 2)));
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplain=false, page=null}";
         assertEquals(expected, findCommand.toString());
     }
 
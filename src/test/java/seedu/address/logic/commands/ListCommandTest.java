@@ -1,16 +1,27 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.query.Page;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +47,24 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_page_showsOnlyPage() {
+        Page page = new Page(3, 2);
+        expectedModel.executeQuery(PREDICATE_SHOW_ALL_PERSONS, page);
+        assertCommandSuccess(new ListCommand(page), model, Messages.formatPageListed(3, page, true), expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listCommand = new ListCommand();
+        ListCommand pagedListCommand = new ListCommand(new Page(10, 1));
+
+        assertTrue(listCommand.equals(new ListCommand()));
+        assertTrue(pagedListCommand.equals(new ListCommand(new Page(10, 1))));
+        assertFalse(listCommand.equals(pagedListCommand));
+        assertFalse(pagedListCommand.equals(new ListCommand(new Page(10, 2))));
+        assertFalse(listCommand.equals(null));
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.Messages.MESSAGE_NO_TRANSACTION;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RollbackCommand}.
+ */
+public class RollbackCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noTransaction_failure() {
+        assertCommandFailure(new RollbackCommand(), model, MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void execute_inTransaction_revertsAllChanges() {
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.addPerson(HOON);
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").build());
+        model.commitAddressBook();
+
+        assertCommandSuccess(new RollbackCommand(), model, RollbackCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isInTransaction());
+        assertFalse(model.canUndoAddressBook());
+    }
+}
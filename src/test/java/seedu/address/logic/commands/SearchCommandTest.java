@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.SortOrder;
+import seedu.address.model.search.ScoredPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand first = new SearchCommand(List.of("alice"));
+        SearchCommand second = new SearchCommand(List.of("alice"), new Page(5, 1));
+
+        assertTrue(first.equals(first));
+        assertTrue(first.equals(new SearchCommand(List.of("alice"), new Page(SearchCommand.DEFAULT_LIMIT, 1))));
+        assertFalse(first.equals(second));
+        assertFalse(first.equals(new SearchCommand(List.of("bob"))));
+        assertFalse(first.equals(null));
+        assertFalse(first.equals(1));
+    }
+
+    @Test
+    public void execute_matchingKeywords_listsBestMatchesFirst() {
+        List<String> keywords = List.of("meier", "street");
+        List<ScoredPerson> matches = expectedModel.searchPersons(keywords, new Page(SearchCommand.DEFAULT_LIMIT, 1));
+        StringBuilder expectedMessage = new StringBuilder(String.format(SearchCommand.MESSAGE_SUCCESS, 4));
+        for (int i = 0; i < matches.size(); i++) {
+            expectedMessage.append("\n").append(String.format(SearchCommand.MESSAGE_MATCH, i + 1,
+                    matches.get(i).getScore(), matches.get(i).getPerson().getName().fullName));
+        }
+
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage.toString(), expectedModel);
+        assertEquals(List.of(DANIEL, BENSON, CARL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_page_listsOnlyThatPage() {
+        new SearchCommand(List.of("meier", "street"), new Page(2, 2)).execute(model);
+        assertEquals(List.of(CARL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatches_listsNoOne() {
+        expectedModel.searchPersons(List.of("nobody"), new Page(SearchCommand.DEFAULT_LIMIT, 1));
+        assertCommandSuccess(new SearchCommand(List.of("nobody")), model, SearchCommand.MESSAGE_NO_MATCHES,
+                expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_thenModified_rankingKeptUntilFilteredAgain() {
+        new SearchCommand(List.of("meier", "street")).execute(model);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        model.setPerson(BENSON, editedBenson);
+        model.deletePerson(CARL);
+        assertEquals(List.of(DANIEL, editedBenson, GEORGE), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(6, model.getFilteredPersonList().size());
+        assertEquals(editedBenson, model.getFilteredPersonList().get(1));
+
+        new SearchCommand(List.of("street")).execute(model);
+        model.setSortOrder(SortOrder.NAME);
+        assertEquals(6, model.getFilteredPersonList().size());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.SortOrder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_sortByEmail_listSortedByEmail() {
+        expectedModel.setSortOrder(SortOrder.EMAIL);
+        assertCommandSuccess(new SortCommand(SortOrder.EMAIL), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "email"), expectedModel);
+        assertEquals(Arrays.asList(ALICE, GEORGE, DANIEL, CARL, BENSON, FIONA, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortByTag_untaggedPersonsLast() {
+        new SortCommand(SortOrder.TAG).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_insertion_restoresInsertionOrder() {
+        model.setSortOrder(SortOrder.EMAIL);
+        assertCommandSuccess(new SortCommand(SortOrder.INSERTION), model, SortCommand.MESSAGE_SUCCESS_INSERTION,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(SortOrder.NAME);
+
+        // same object -> returns true
+        assertTrue(sortByName.equals(sortByName));
+
+        // same values -> returns true
+        assertTrue(sortByName.equals(new SortCommand(SortOrder.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortByName.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByName.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortByName.equals(new SortCommand(SortOrder.EMAIL)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(SortOrder.TAG);
+        String expected = SortCommand.class.getCanonicalName() + "{sortOrder=" + SortOrder.TAG + "}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
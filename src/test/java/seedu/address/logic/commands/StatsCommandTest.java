@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_typicalAddressBook_showsFacetCounts() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_TOTALS, 7, 2, 1)
+                + "\n" + StatsCommand.MESSAGE_TAGS
+                + "\n" + String.format(StatsCommand.MESSAGE_FACET, "friends", 3)
+                + "\n" + String.format(StatsCommand.MESSAGE_FACET, "owesmoney", 1)
+                + "\n" + StatsCommand.MESSAGE_EMAIL_DOMAINS
+                + "\n" + String.format(StatsCommand.MESSAGE_FACET, "example.com", 7);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyAddressBook_showsTotalsOnly() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new StatsCommand(), model, String.format(StatsCommand.MESSAGE_TOTALS, 0, 0, 0), model);
+    }
+}
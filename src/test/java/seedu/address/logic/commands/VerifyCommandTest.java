@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.InvalidPersonRecord;
+import seedu.address.model.person.PersonRecord;
+import seedu.address.model.person.Phone;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code VerifyCommand}.
+ */
+public class VerifyCommandTest {
+
+    @Test
+    public void execute_noInvalidRecords_allValid() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new VerifyCommand(), model, VerifyCommand.MESSAGE_ALL_VALID, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRecords_listsRecords() {
+        List<InvalidPersonRecord> invalidRecords = List.of(
+                new InvalidPersonRecord(2, new PersonRecord("Hans", "948asdf2424", "hans@example.com", "4th street",
+                        List.of()), Phone.MESSAGE_CONSTRAINTS),
+                new InvalidPersonRecord(5, new PersonRecord(null, "9482424", "hans@example.com", "4th street",
+                        List.of()), String.format(PersonRecord.MESSAGE_MISSING_FIELD, "Name")));
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setInvalidRecords(invalidRecords);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setInvalidRecords(invalidRecords);
+
+        String expectedMessage = String.format(VerifyCommand.MESSAGE_INVALID_RECORDS, 2)
+                + String.format(VerifyCommand.MESSAGE_INVALID_RECORD, 2, "Hans", Phone.MESSAGE_CONSTRAINTS)
+                + String.format(VerifyCommand.MESSAGE_INVALID_RECORD, 5, VerifyCommand.MESSAGE_MISSING_NAME,
+                        String.format(PersonRecord.MESSAGE_MISSING_FIELD, "Name"));
+        assertCommandSuccess(new VerifyCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_clear_invalidRecordsRemoved() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setInvalidRecords(List.of(new InvalidPersonRecord(2, new PersonRecord("Hans", "948asdf2424",
+                "hans@example.com", "4th street", List.of()), Phone.MESSAGE_CONSTRAINTS)));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new VerifyCommand(true), model, String.format(VerifyCommand.MESSAGE_CLEARED, 1),
+                expectedModel);
+        assertEquals(List.of(), model.getInvalidRecords());
+    }
+
+    @Test
+    public void equals() {
+        VerifyCommand listCommand = new VerifyCommand();
+
+        assertTrue(listCommand.equals(new VerifyCommand(false)));
+        assertFalse(listCommand.equals(new VerifyCommand(true)));
+        assertFalse(listCommand.equals(null));
+    }
+}
@@ -9,22 +9,41 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
+import seedu.address.logic.commands.DedupeCommand;
+import seedu.address.logic.commands.DeleteAllCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
+import seedu.address.logic.commands.EditAllCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.SortOrder;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -62,6 +81,14 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_bulkCommands() throws Exception {
+        FieldQuery friends = new FieldQuery(Field.TAG, "friends");
+        assertEquals(new EditAllCommand(friends, Set.of(new Tag("vip")), Set.of()),
+                parser.parseCommand(EditAllCommand.COMMAND_WORD + " t/friends t/+vip"));
+        assertEquals(new DeleteAllCommand(friends), parser.parseCommand(DeleteAllCommand.COMMAND_WORD + " t/friends"));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -76,6 +103,12 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        assertEquals(new SearchCommand(List.of("alice", "clementi"), new Page(5, 1)),
+                parser.parseCommand(SearchCommand.COMMAND_WORD + " alice clementi limit/5"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -86,6 +119,54 @@ public class AddressBookParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(new Page(5, 2)),
+                parser.parseCommand(ListCommand.COMMAND_WORD + " limit/5 page/2"));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+        assertTrue(parser.parseCommand(RollbackCommand.COMMAND_WORD) instanceof RollbackCommand);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(SortOrder.EMAIL), parser.parseCommand(SortCommand.COMMAND_WORD + " e/"));
+    }
+
+    @Test
+    public void parseCommand_diagnostics() throws Exception {
+        assertTrue(parser.parseCommand(DiagnosticsCommand.COMMAND_WORD) instanceof DiagnosticsCommand);
+    }
+
+    @Test
+    public void parseCommand_dedupe() throws Exception {
+        assertTrue(parser.parseCommand(DedupeCommand.COMMAND_WORD) instanceof DedupeCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_verify() throws Exception {
+        assertTrue(parser.parseCommand(VerifyCommand.COMMAND_WORD) instanceof VerifyCommand);
+        assertEquals(new VerifyCommand(true),
+                parser.parseCommand(VerifyCommand.COMMAND_WORD + " " + VerifyCommand.CLEAR_WORD));
     }
 
     @Test
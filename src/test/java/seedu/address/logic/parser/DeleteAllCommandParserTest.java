@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DeleteAllCommand;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+
+public class DeleteAllCommandParserTest {
+
+    private DeleteAllCommandParser parser = new DeleteAllCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDeleteAllCommand() {
+        assertParseSuccess(parser, " NOT t/vip", new DeleteAllCommand(new NotQuery(new FieldQuery(Field.TAG, "vip"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteAllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/vip OR",
+                QueryParser.MESSAGE_UNEXPECTED_END + "\n" + DeleteAllCommand.MESSAGE_USAGE);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.EditAllCommand;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.tag.Tag;
+
+public class EditAllCommandParserTest {
+
+    private EditAllCommandParser parser = new EditAllCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsEditAllCommand() {
+        AndQuery query = new AndQuery(Arrays.asList(new FieldQuery(Field.TAG, "friends"),
+                new FieldQuery(Field.ADDRESS, "clementi")));
+        assertParseSuccess(parser, " t/friends t/+vip a/clementi t/-old t/+colleagues",
+                new EditAllCommand(query, Set.of(new Tag("vip"), new Tag("colleagues")), Set.of(new Tag("old"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " t/+vip", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                EditAllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/friends", EditAllCommand.MESSAGE_NOT_EDITED);
+        assertParseFailure(parser, " t/friends t/+v*p", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends AND t/-old",
+                QueryParser.MESSAGE_UNEXPECTED_END + "\n" + EditAllCommand.MESSAGE_USAGE);
+    }
+}
@@ -10,6 +10,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.Query;
 
 public class FindCommandParserTest {
 
@@ -29,6 +35,37 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // explain flag
+        assertParseSuccess(parser, "explain Alice Bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true));
+    }
+
+    @Test
+    public void parse_query_returnsFindCommand() {
+        Query query = new AndQuery(Arrays.asList(new FieldQuery(Field.NAME, "alice"),
+                new FieldQuery(Field.TAG, "vip"), new NotQuery(new FieldQuery(Field.EMAIL, "@example.com"))));
+        assertParseSuccess(parser, "n/alice AND t/vip AND NOT e/@example.com", new FindCommand(query));
+        assertParseSuccess(parser, "explain n/alice AND t/vip AND NOT e/@example.com", new FindCommand(query, true));
+    }
+
+    @Test
+    public void parse_page_returnsPagedFindCommand() {
+        Page page = new Page(20, 2);
+        assertParseSuccess(parser, "Alice limit/20 Bob page/2",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), false, page));
+        assertParseSuccess(parser, "explain limit/20 page/2 t/vip",
+                new FindCommand(new FieldQuery(Field.TAG, "vip"), true, page));
+
+        assertParseFailure(parser, "limit/20",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "Alice page/2", ParserUtil.MESSAGE_PAGE_WITHOUT_LIMIT);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "n/alice AND",
+                QueryParser.MESSAGE_UNEXPECTED_END + "\n" + FindCommand.MESSAGE_USAGE);
     }
 
 }
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.query.Page;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 3", new ListCommand());
+        assertParseSuccess(parser, " limit/20", new ListCommand(new Page(20, 1)));
+        assertParseSuccess(parser, " page/3 limit/20 ", new ListCommand(new Page(20, 3)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " limit/0", Page.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " limit/20 page/two", Page.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " page/2", ParserUtil.MESSAGE_PAGE_WITHOUT_LIMIT);
+        assertParseFailure(parser, " limit/20 limit/30",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_LIMIT));
+    }
+}
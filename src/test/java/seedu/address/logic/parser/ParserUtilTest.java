@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.query.Page;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -56,6 +58,23 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parsePage_validInput_success() throws Exception {
+        assertEquals(Optional.empty(), ParserUtil.parsePage(Optional.empty(), Optional.empty()));
+        assertEquals(Optional.of(new Page(10, 1)), ParserUtil.parsePage(Optional.of(" 10 "), Optional.empty()));
+        assertEquals(Optional.of(new Page(10, 4)), ParserUtil.parsePage(Optional.of("10"), Optional.of("4")));
+    }
+
+    @Test
+    public void parsePage_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_PAGE_WITHOUT_LIMIT, ()
+            -> ParserUtil.parsePage(Optional.empty(), Optional.of("2")));
+        assertThrows(ParseException.class, Page.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parsePage(Optional.of("-1"), Optional.empty()));
+        assertThrows(ParseException.class, Page.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parsePage(Optional.of("10"), Optional.of("0")));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.ApproximateNameQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PhoneticNameQuery;
+
+public class QueryParserTest {
+
+    private static final FieldQuery NAME_ALICE = new FieldQuery(Field.NAME, "alice");
+    private static final FieldQuery TAG_VIP = new FieldQuery(Field.TAG, "vip");
+    private static final FieldQuery PHONE = new FieldQuery(Field.PHONE, "91234567");
+
+    @Test
+    public void isQuery() {
+        assertTrue(QueryParser.isQuery("n/alice"));
+        assertTrue(QueryParser.isQuery("(alice)"));
+        assertTrue(QueryParser.isQuery("~yeo"));
+        assertFalse(QueryParser.isQuery("alice bob"));
+    }
+
+    @Test
+    public void parse_precedence_notBindsTighterThanAndThanOr() throws Exception {
+        assertEquals(new OrQuery(Arrays.asList(NAME_ALICE, new AndQuery(Arrays.asList(TAG_VIP,
+                new NotQuery(PHONE))))), QueryParser.parse("n/Alice OR t/vip AND NOT p/91234567"));
+    }
+
+    @Test
+    public void parse_parenthesesAndImplicitAnd() throws Exception {
+        assertEquals(new AndQuery(Arrays.asList(new OrQuery(Arrays.asList(NAME_ALICE, TAG_VIP)), PHONE)),
+                QueryParser.parse("(n/alice or t/VIP) p/91234567"));
+    }
+
+    @Test
+    public void parse_approximateName() throws Exception {
+        assertEquals(new AndQuery(Arrays.asList(new ApproximateNameQuery("yeo"), TAG_VIP)),
+                QueryParser.parse("~Yeo t/vip"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_MISSING_VALUE, "~"), ()
+            -> QueryParser.parse("~ t/vip"));
+    }
+
+    @Test
+    public void parse_phoneticName() throws Exception {
+        assertTrue(QueryParser.isQuery("ph/you"));
+        assertEquals(new AndQuery(Arrays.asList(new PhoneticNameQuery("burnees"), TAG_VIP)),
+                QueryParser.parse("ph/Burnees t/vip"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_MISSING_VALUE, "ph/"), ()
+            -> QueryParser.parse("ph/ t/vip"));
+        assertThrows(ParseException.class, PhoneticNameQuery.MESSAGE_CONSTRAINTS, ()
+            -> QueryParser.parse("ph/123"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> QueryParser.parse("NOT"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> QueryParser.parse("(n/alice"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), ()
+            -> QueryParser.parse("n/alice)"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, "alice"), ()
+            -> QueryParser.parse("t/vip alice"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_MISSING_VALUE, "t/"), ()
+            -> QueryParser.parse("n/alice t/"));
+    }
+}
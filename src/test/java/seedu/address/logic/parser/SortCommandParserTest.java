@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.query.SortOrder;
+
+public class SortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, "", new SortCommand(SortOrder.INSERTION));
+        assertParseSuccess(parser, " n/", new SortCommand(SortOrder.NAME));
+        assertParseSuccess(parser, " e/ ", new SortCommand(SortOrder.EMAIL));
+        assertParseSuccess(parser, " t/", new SortCommand(SortOrder.TAG));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseFailure(parser, "name", MESSAGE_INVALID_FORMAT);
+
+        // value after prefix
+        assertParseFailure(parser, " n/alice", MESSAGE_INVALID_FORMAT);
+
+        // more than one order
+        assertParseFailure(parser, " n/ e/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/ n/", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.VerifyCommand;
+
+public class VerifyCommandParserTest {
+
+    private VerifyCommandParser parser = new VerifyCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsVerifyCommand() {
+        assertParseSuccess(parser, "", new VerifyCommand());
+        assertParseSuccess(parser, "  clear ", new VerifyCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "all", String.format(MESSAGE_INVALID_COMMAND_FORMAT, VerifyCommand.MESSAGE_USAGE));
+    }
+}
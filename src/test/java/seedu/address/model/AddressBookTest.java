@@ -7,8 +7,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,7 +20,10 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.InvalidPersonRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecord;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -54,6 +59,23 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void fromRecords_invalidAndDuplicateRecords_leftOut() {
+        PersonRecord invalidPhone = new PersonRecord("Hans", "948asdf2424", "hans@example.com", "4th street",
+                List.of());
+        PersonRecord missingEmail = new PersonRecord("Hans", "9482424", null, "4th street", List.of());
+        List<PersonRecord> records = List.of(PersonRecord.of(ALICE), invalidPhone, PersonRecord.of(ALICE),
+                missingEmail, PersonRecord.of(BENSON));
+        List<InvalidPersonRecord> invalidRecords = new ArrayList<>();
+
+        AddressBook fromRecords = AddressBook.fromRecords(records, invalidRecords);
+        assertEquals(List.of(ALICE, BENSON), fromRecords.getPersonList());
+        assertEquals(List.of(new InvalidPersonRecord(2, invalidPhone, Phone.MESSAGE_CONSTRAINTS),
+                new InvalidPersonRecord(3, PersonRecord.of(ALICE), AddressBook.MESSAGE_DUPLICATE_RECORD),
+                new InvalidPersonRecord(4, missingEmail, String.format(PersonRecord.MESSAGE_MISSING_FIELD, "Email"))),
+                invalidRecords);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -0,0 +1,147 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Exercises {@code ModelManager} from several threads at once and checks that its invariants hold.
+ */
+public class ModelManagerConcurrencyTest {
+    private static final int BASE_PERSONS = 200;
+    private static final int WRITERS = 3;
+    private static final int READERS = 4;
+    private static final int WRITES_PER_WRITER = 300;
+    private static final int READS_PER_READER = 2000;
+
+    @Test
+    public void concurrentReadsAndWrites_invariantsHold() throws Exception {
+        ModelManager model = new ModelManager(buildBaseAddressBook(), new UserPrefs());
+        Person probe = basePerson(BASE_PERSONS / 2);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + READERS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    Person person = writerPerson(writer, i);
+                    model.addPerson(person);
+                    if (i % 2 == 0) {
+                        Person edited = new PersonBuilder(person).withPhone("999" + i).build();
+                        model.setPerson(person, edited);
+                        model.deletePerson(edited);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (int r = 0; r < READERS; r++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < READS_PER_READER; i++) {
+                    assertTrue(model.hasPerson(probe));
+                    if (i % 100 == 0) {
+                        List<Person> snapshot = new ArrayList<>(model.getAddressBookSnapshot().getPersonList());
+                        assertNoDuplicateNames(snapshot);
+                        assertTrue(snapshot.size() >= BASE_PERSONS);
+                        assertTrue(snapshot.size() <= BASE_PERSONS + WRITERS * WRITES_PER_WRITER);
+                        assertEquals(1, model.findPersons(probe::isSamePerson).size());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        int expectedSize = BASE_PERSONS + WRITERS * (WRITES_PER_WRITER / 2);
+        assertEquals(expectedSize, model.getAddressBook().getPersonList().size());
+        assertNoDuplicateNames(model.getAddressBook().getPersonList());
+        assertEquals(model.getFilteredPersonList(), model.getDisplayedPersonList());
+    }
+
+    @Test
+    public void concurrentReadersDuringWrites_consistentResults() throws Exception {
+        ModelManager model = new ModelManager(buildBaseAddressBook(), new UserPrefs());
+        Person probe = basePerson(BASE_PERSONS - 1);
+        Person toggled = writerPerson(0, 0);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(1 + READERS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        futures.add(pool.submit(() -> {
+            start.await();
+            for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                model.addPerson(toggled);
+                model.deletePerson(toggled);
+            }
+            return null;
+        }));
+        for (int r = 0; r < READERS; r++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < READS_PER_READER; i++) {
+                    assertTrue(model.hasPerson(probe));
+                    // a snapshot is taken between writes, so it holds the toggled person exactly when it is larger
+                    List<Person> snapshot = model.getAddressBookSnapshot().getPersonList();
+                    assertEquals(snapshot.size() == BASE_PERSONS + 1, snapshot.contains(toggled));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(BASE_PERSONS, model.getAddressBook().getPersonList().size());
+    }
+
+    private static void assertNoDuplicateNames(List<Person> persons) {
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            assertTrue(names.add(person.getName().fullName), "Duplicate person: " + person);
+        }
+    }
+
+    private static AddressBook buildBaseAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < BASE_PERSONS; i++) {
+            addressBook.addPerson(basePerson(i));
+        }
+        return addressBook;
+    }
+
+    private static Person basePerson(int i) {
+        return new PersonBuilder().withName("Base Person " + i).build();
+    }
+
+    private static Person writerPerson(int writer, int i) {
+        return new PersonBuilder().withName("Writer " + writer + " Person " + i).build();
+    }
+}
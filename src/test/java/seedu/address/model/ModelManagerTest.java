@@ -2,21 +2,42 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.cache.CacheStatistics;
+import seedu.address.model.event.AddressBookEvent;
+import seedu.address.model.event.AddressBookEvent.PersonAdded;
+import seedu.address.model.event.AddressBookEvent.PersonRemoved;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.Page;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.SortOrder;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -29,6 +50,19 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void transaction_wrongState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_TRANSACTION, () ->
+                modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_TRANSACTION, () ->
+                modelManager.rollbackTransaction());
+
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_TRANSACTION_IN_PROGRESS, () ->
+                modelManager.beginTransaction());
+        assertTrue(modelManager.isInTransaction());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -93,6 +127,216 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void findPersons_matchingPredicate_returnsMatchesWithoutFiltering() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(BENSON), modelManager.findPersons(BENSON::isSamePerson));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE), snapshot.getPersonList());
+
+        // persons unchanged since the last snapshot are shared with it, not copied
+        assertSame(modelManager.getAddressBookSnapshot().getPersonSnapshot(),
+                modelManager.getAddressBookSnapshot().getPersonSnapshot());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedQuery_servedFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("ALICE")));
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(new CacheStatistics(1, 1, 0, 1, 32), modelManager.getQueryCacheStatistics());
+    }
+
+    @Test
+    public void updateFilteredPersonList_cachedMatches_shownInDisplayOrder() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("Daniel", "Carl", "Benson"));
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(DANIEL, CARL, BENSON), modelManager.getFilteredPersonList());
+
+        Person carlos = new PersonBuilder(ELLE).withName("Carl Os").build();
+        modelManager.addPerson(carlos);
+        modelManager.deletePerson(CARL);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Benson").build());
+        List<Person> expectedPersons = Arrays.asList(DANIEL,
+                new PersonBuilder(ALICE).withName("Alice Benson").build(), BENSON, carlos);
+        assertEquals(expectedPersons, modelManager.getFilteredPersonList());
+        assertEquals(expectedPersons, modelManager.getDisplayedPersonList());
+
+        modelManager.setSortOrder(SortOrder.NAME);
+        assertEquals(Arrays.asList(expectedPersons.get(1), BENSON, carlos, DANIEL),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_cachedFilterActive_filterReflectsTouchedPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carl")));
+
+        Person carl = new PersonBuilder(BENSON).withName("Carl Meier").build();
+        modelManager.setPerson(BENSON, carl);
+        assertEquals(Arrays.asList(ALICE, carl), modelManager.getFilteredPersonList());
+
+        Person bob = new PersonBuilder(ALICE).withName("Bob Pauline").build();
+        modelManager.setPerson(ALICE, bob);
+        assertEquals(Arrays.asList(carl), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(carl);
+        modelManager.setPerson(bob, ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("carl", "alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(new CacheStatistics(1, 1, 0, 1, 32), modelManager.getQueryCacheStatistics());
+    }
+
+    @Test
+    public void setAddressBook_cachedFilterActive_filterReappliedToNewPersons() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Benson"));
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(predicate);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setSortOrder_laterChanges_orderMaintained() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.setSortOrder(SortOrder.NAME);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        Person aaron = new PersonBuilder(BENSON).withName("Aaron Meier").build();
+        modelManager.setPerson(BENSON, aaron);
+        modelManager.addPerson(CARL);
+        assertEquals(Arrays.asList(aaron, ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Carl", "Aaron")));
+        modelManager.addPerson(HOON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Carl")));
+        assertEquals(Arrays.asList(aaron, CARL, HOON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(CARL);
+        modelManager.setSortOrder(SortOrder.INSERTION);
+        assertEquals(Arrays.asList(aaron, HOON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(aaron, ALICE, HOON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void executeQuery_page_scansUntilPageFull() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        QueryPlan plan = modelManager.executeQuery(PREDICATE_SHOW_ALL_PERSONS, new Page(2, 2));
+        assertEquals(QueryPlan.STRATEGY_TOP_K, plan.getStrategy());
+        assertEquals(4, plan.getCandidateCount());
+        assertEquals(Arrays.asList(CARL, DANIEL), modelManager.getFilteredPersonList());
+
+        assertTrue(modelManager.hasMorePersons());
+        assertEquals(2, modelManager.fetchMorePersons());
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE, FIONA), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.fetchMorePersons());
+        assertFalse(modelManager.hasMorePersons());
+        assertEquals(0, modelManager.fetchMorePersons());
+    }
+
+    @Test
+    public void fetchMorePersons_pagedQuery_onlyScannedPersonsTested() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        int[] testCount = {0};
+        modelManager.executeQuery(person -> ++testCount[0] > 0, new Page(2, 1));
+        assertEquals(2, testCount[0]);
+
+        assertEquals(2, modelManager.fetchMorePersons());
+        assertEquals(4, testCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(modelManager.getFilteredPersonList(), modelManager.getDisplayedPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getDisplayedPersonList());
+    }
+
+    @Test
+    public void fetchMorePersons_changesSinceQuery_continuesFromLastLoadedPerson() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        FieldQuery friends = new FieldQuery(Field.TAG, "friends");
+        QueryPlan plan = modelManager.executeQuery(friends, new Page(1, 1));
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, friends), plan.getStrategy());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.deletePerson(CARL);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        assertEquals(1, modelManager.fetchMorePersons());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // a new query ends paging
+        modelManager.updateFilteredPersonList(friends);
+        assertFalse(modelManager.hasMorePersons());
+        assertEquals(0, modelManager.fetchMorePersons());
+    }
+
+    @Test
+    public void getDisplayedPersonList_deferredUiExecutor_updatedWhenExecutorRuns() {
+        List<Runnable> uiTasks = new ArrayList<>();
+        ModelManager deferredModel = new ModelManager(new AddressBook(), new UserPrefs(), uiTasks::add);
+        deferredModel.addPerson(ALICE);
+        deferredModel.addPerson(BENSON);
+        deferredModel.deletePerson(ALICE);
+        assertTrue(deferredModel.getDisplayedPersonList().isEmpty());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(Arrays.asList(BENSON), deferredModel.getDisplayedPersonList());
+    }
+
+    @Test
+    public void deletePersons_query_matchesFoundFromIndexAndDeleted() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        FieldQuery friends = new FieldQuery(Field.TAG, "friends");
+        QueryPlan plan = modelManager.deletePersons(friends);
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, friends), plan.getStrategy());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), plan.getMatches());
+        assertTrue(plan.getStageNanos().containsKey(Model.STAGE_APPLY));
+        assertTrue(modelManager.findPersons(friends).isEmpty());
+    }
+
+    @Test
+    public void addAddressBookListener_operations_oneBatchOfEventsPerOperation() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<List<AddressBookEvent>> deliveries = new ArrayList<>();
+        modelManager.addAddressBookListener(deliveries::add);
+
+        modelManager.deletePersons(Arrays.asList(CARL, ALICE));
+        modelManager.commitAddressBook();
+        assertEquals(List.of(List.of(new PersonRemoved(2, CARL), new PersonRemoved(0, ALICE))), deliveries);
+
+        deliveries.clear();
+        modelManager.undoAddressBook();
+        assertEquals(List.of(List.of(new PersonAdded(0, ALICE), new PersonAdded(2, CARL))), deliveries);
+
+        // reads do not publish events
+        deliveries.clear();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(), deliveries);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,84 @@
+package seedu.address.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryCacheTest {
+
+    private static final NameContainsKeywordsPredicate ALICE_PREDICATE =
+            new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+    private static final NameContainsKeywordsPredicate MEIER_PREDICATE =
+            new NameContainsKeywordsPredicate(Arrays.asList("Meier"));
+    private static final NameContainsKeywordsPredicate CARL_PREDICATE =
+            new NameContainsKeywordsPredicate(Arrays.asList("Carl"));
+
+    private final QueryCache cache = new QueryCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_repeatedPredicate_countsHitsAndMisses() {
+        assertNull(cache.get(ALICE_PREDICATE));
+        cache.put(ALICE_PREDICATE, new HashSet<>(List.of(ALICE)));
+
+        assertEquals(Set.of(ALICE), cache.get(new NameContainsKeywordsPredicate(Arrays.asList("alice"))));
+        assertEquals(new CacheStatistics(1, 1, 0, 1, 2), cache.getStatistics());
+    }
+
+    @Test
+    public void put_capacityExceeded_evictsLeastRecentlyUsed() {
+        cache.put(ALICE_PREDICATE, new HashSet<>(List.of(ALICE)));
+        cache.put(MEIER_PREDICATE, new HashSet<>(List.of(BENSON)));
+        cache.get(ALICE_PREDICATE);
+        cache.put(CARL_PREDICATE, new HashSet<>());
+
+        // MEIER_PREDICATE was the least recently used
+        assertNull(cache.get(MEIER_PREDICATE));
+        assertEquals(Set.of(ALICE), cache.get(ALICE_PREDICATE));
+        assertEquals(new CacheStatistics(2, 1, 1, 2, 2), cache.getStatistics());
+    }
+
+    @Test
+    public void update_personsTouched_onlyTouchedPersonsRetested() {
+        cache.put(MEIER_PREDICATE, new HashSet<>(List.of(BENSON)));
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+
+        cache.update(AddressBookChange.set(0, ALICE, aliceMeier));
+        assertEquals(Set.of(BENSON, aliceMeier), cache.get(MEIER_PREDICATE));
+
+        cache.update(AddressBookChange.remove(1, BENSON));
+        assertEquals(Set.of(aliceMeier), cache.get(MEIER_PREDICATE));
+
+        Person danielMeier = new PersonBuilder().withName("Daniel Meier").build();
+        cache.update(AddressBookChange.add(2, danielMeier));
+        assertEquals(Set.of(aliceMeier, danielMeier), cache.get(MEIER_PREDICATE));
+    }
+
+    @Test
+    public void update_reset_clearsCache() {
+        cache.put(ALICE_PREDICATE, new HashSet<>(List.of(ALICE)));
+        cache.update(AddressBookChange.reset(List.of(ALICE), Collections.emptyList()));
+
+        assertNull(cache.get(ALICE_PREDICATE));
+        assertEquals(new CacheStatistics(0, 1, 0, 0, 2), cache.getStatistics());
+    }
+}
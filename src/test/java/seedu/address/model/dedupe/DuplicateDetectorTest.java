@@ -0,0 +1,76 @@
+package seedu.address.model.dedupe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.dedupe.DuplicateCluster.Evidence;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class DuplicateDetectorTest {
+
+    private final DuplicateDetector detector = new DuplicateDetector();
+
+    @Test
+    public void constructor_invalidThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(0));
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(1.5));
+    }
+
+    @Test
+    public void findDuplicates_distinctPersons_noClusters() {
+        assertTrue(detector.findDuplicates(getTypicalPersons()).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_nameWithDifferentCaseAndSpacing_clustered() {
+        Person alice = new PersonBuilder(ALICE).withName("alice  PAULINE").withPhone("81234567")
+                .withEmail("pauline@example.com").build();
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(alice);
+
+        List<DuplicateCluster> clusters = detector.findDuplicates(persons);
+        assertEquals(1, clusters.size());
+        assertEquals(Arrays.asList(ALICE, alice), clusters.get(0).getPersons());
+        assertEquals(EnumSet.of(Evidence.SAME_NAME, Evidence.SIMILAR_DETAILS), clusters.get(0).getEvidence());
+    }
+
+    @Test
+    public void findDuplicates_samePhoneUnderDifferentName_clustered() {
+        Person carlsWife = new PersonBuilder().withName("Ingrid Schmidt").withPhone(CARL.getPhone().value())
+                .withEmail("ingrid@example.com").withAddress("Orchard Road").build();
+
+        List<DuplicateCluster> clusters = detector.findDuplicates(Arrays.asList(ALICE, CARL, BENSON, carlsWife));
+        assertEquals(1, clusters.size());
+        assertEquals(Arrays.asList(CARL, carlsWife), clusters.get(0).getPersons());
+        assertEquals(EnumSet.of(Evidence.SAME_PHONE), clusters.get(0).getEvidence());
+    }
+
+    @Test
+    public void findDuplicates_multipleClusters_rankedAndMerged() {
+        Person weakBenson = new PersonBuilder().withName("Ben Son").withPhone("91112222")
+                .withEmail("johnd@example.org").withAddress("Sentosa Cove").build();
+        Person alice = new PersonBuilder(ALICE).withName("Pauline Alice").build();
+        Person alicesPhone = new PersonBuilder().withName("Anne Tan").withPhone(ALICE.getPhone().value())
+                .withEmail("anne@example.com").withAddress("Tampines Street 81").build();
+
+        List<DuplicateCluster> clusters = detector.findDuplicates(
+                Arrays.asList(ALICE, BENSON, CARL, weakBenson, alice, alicesPhone));
+        assertEquals(2, clusters.size());
+        assertEquals(Arrays.asList(ALICE, alice, alicesPhone), clusters.get(0).getPersons());
+        assertEquals(Arrays.asList(BENSON, weakBenson), clusters.get(1).getPersons());
+        assertTrue(clusters.get(0).getScore() > clusters.get(1).getScore());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.AddressBookEvent.BookReset;
+import seedu.address.model.event.AddressBookEvent.PersonAdded;
+import seedu.address.model.event.AddressBookEvent.PersonRemoved;
+import seedu.address.model.event.AddressBookEvent.PersonReplaced;
+import seedu.address.model.history.AddressBookChange;
+
+public class AddressBookEventBusTest {
+
+    private final AddressBookEventBus bus = new AddressBookEventBus();
+    private final List<List<AddressBookEvent>> deliveries = new ArrayList<>();
+
+    @Test
+    public void of_change_eventsInApplicableOrder() {
+        assertEquals(List.of(new PersonRemoved(2, CARL), new PersonRemoved(0, ALICE)),
+                AddressBookEvent.of(AddressBookChange.removeAll(List.of(0, 2), List.of(ALICE, CARL))));
+        assertEquals(List.of(new PersonReplaced(1, BENSON, CARL)),
+                AddressBookEvent.of(AddressBookChange.set(1, BENSON, CARL)));
+        assertEquals(List.of(new BookReset(List.of(ALICE), List.of())),
+                AddressBookEvent.of(AddressBookChange.reset(List.of(ALICE), List.of())));
+    }
+
+    @Test
+    public void publish_noBatch_deliveredImmediately() {
+        bus.addListener(deliveries::add);
+        bus.publish(AddressBookChange.add(0, ALICE));
+        bus.publish(AddressBookChange.add(1, BENSON));
+
+        assertEquals(List.of(List.of(new PersonAdded(0, ALICE)), List.of(new PersonAdded(1, BENSON))), deliveries);
+    }
+
+    @Test
+    public void publish_nestedBatches_deliveredOnceInOrder() {
+        bus.addListener(deliveries::add);
+        bus.beginBatch();
+        bus.publish(AddressBookChange.add(0, ALICE));
+        bus.beginBatch();
+        bus.publish(AddressBookChange.set(0, ALICE, BENSON));
+        bus.endBatch();
+        assertEquals(List.of(), deliveries);
+
+        bus.publish(AddressBookChange.remove(0, BENSON));
+        bus.endBatch();
+        assertEquals(List.of(List.of(new PersonAdded(0, ALICE), new PersonReplaced(0, ALICE, BENSON),
+                new PersonRemoved(0, BENSON))), deliveries);
+
+        // empty batches are not delivered
+        bus.beginBatch();
+        bus.endBatch();
+        assertEquals(1, deliveries.size());
+    }
+
+    @Test
+    public void removeListener_notNotified() {
+        AddressBookListener listener = deliveries::add;
+        bus.addListener(listener);
+        bus.removeListener(listener);
+        bus.publish(AddressBookChange.add(0, ALICE));
+
+        assertEquals(List.of(), deliveries);
+    }
+}
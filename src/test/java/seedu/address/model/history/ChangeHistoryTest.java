@@ -0,0 +1,104 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeHistoryTest {
+
+    private final ChangeHistory history = new ChangeHistory(10);
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(-1));
+    }
+
+    @Test
+    public void commit_noPendingChanges_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_multipleChangesInStep_returnedInReverseOrder() {
+        AddressBookChange first = AddressBookChange.add(0, ALICE);
+        AddressBookChange second = AddressBookChange.remove(0, BENSON);
+        history.record(first);
+        history.record(second);
+        history.commit();
+
+        assertEquals(Arrays.asList(second, first), history.undo());
+        assertTrue(history.canRedo());
+        assertEquals(Arrays.asList(first, second), history.redo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoSteps() {
+        history.record(AddressBookChange.add(0, ALICE));
+        history.commit();
+        history.undo();
+        history.record(AddressBookChange.add(0, BENSON));
+        history.commit();
+
+        assertFalse(history.canRedo());
+        assertEquals(1, history.getSize());
+    }
+
+    @Test
+    public void commit_exceedsCapacity_evictsOldestSteps() {
+        ChangeHistory smallHistory = new ChangeHistory(3);
+        smallHistory.record(AddressBookChange.add(0, ALICE));
+        smallHistory.commit();
+        smallHistory.record(AddressBookChange.set(0, BENSON, CARL));
+        smallHistory.commit();
+        assertEquals(3, smallHistory.getSize());
+
+        smallHistory.record(AddressBookChange.remove(0, CARL));
+        smallHistory.commit();
+        assertEquals(3, smallHistory.getSize());
+        smallHistory.undo();
+        smallHistory.undo();
+        assertFalse(smallHistory.canUndo());
+    }
+
+    @Test
+    public void commit_stepLargerThanCapacity_onlyLatestStepRetained() {
+        ChangeHistory smallHistory = new ChangeHistory(1);
+        smallHistory.record(AddressBookChange.add(0, CARL));
+        assertTrue(smallHistory.commit());
+        smallHistory.record(AddressBookChange.reset(Arrays.asList(ALICE, BENSON), Collections.emptyList()));
+        assertFalse(smallHistory.commit());
+
+        assertEquals(2, smallHistory.getSize());
+        smallHistory.undo();
+        assertFalse(smallHistory.canUndo());
+    }
+
+    @Test
+    public void commit_zeroCapacity_notRetained() {
+        ChangeHistory noHistory = new ChangeHistory(0);
+        noHistory.record(AddressBookChange.add(0, ALICE));
+        assertFalse(noHistory.commit());
+        assertFalse(noHistory.canUndo());
+        assertEquals(0, noHistory.getSize());
+    }
+
+    @Test
+    public void discardPendingChanges_returnsChangesInOrder() {
+        List<AddressBookChange> changes = Arrays.asList(AddressBookChange.add(0, ALICE),
+                AddressBookChange.add(1, BENSON));
+        changes.forEach(history::record);
+        assertEquals(changes, history.discardPendingChanges());
+        assertFalse(history.hasPendingChanges());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.AddressComponents.Kind;
+
+public class AddressComponentsTest {
+
+    @Test
+    public void parse_blockStreetAndUnit() {
+        AddressComponents components = AddressComponents.parse("Blk 30 Lorong 3 Serangoon Gardens, #07-18");
+        assertEquals(List.of("30"), components.get(Kind.BLOCK));
+        assertEquals(List.of("Lorong 3 Serangoon Gardens"), components.get(Kind.STREET));
+        assertEquals(List.of("Serangoon Gardens"), components.get(Kind.ESTATE));
+        assertEquals(List.of("07-18"), components.get(Kind.UNIT));
+        assertEquals(Set.of("lorong", "3", "serangoon", "gardens"), components.getWords(Kind.STREET));
+    }
+
+    @Test
+    public void parse_leadingNumberAndPostalCode() {
+        AddressComponents components = AddressComponents.parse("123, Jurong West Ave 6, #08-111, Singapore 640123");
+        assertEquals(List.of("123"), components.get(Kind.BLOCK));
+        assertEquals(List.of("Jurong West Ave 6"), components.get(Kind.STREET));
+        assertEquals(List.of("Jurong West"), components.get(Kind.ESTATE));
+        assertEquals(List.of("08-111"), components.get(Kind.UNIT));
+
+        components = AddressComponents.parse("Block 12A Bedok North Road Unit 05-01 S(460012)");
+        assertEquals(List.of("12A"), components.get(Kind.BLOCK));
+        assertEquals(List.of("Bedok North Road"), components.get(Kind.STREET));
+        assertEquals(List.of("05-01"), components.get(Kind.UNIT));
+    }
+
+    @Test
+    public void parse_noStreetWord_estateOnly() {
+        AddressComponents components = AddressComponents.parse("little tokyo");
+        assertEquals(List.of(), components.get(Kind.BLOCK));
+        assertEquals(List.of(), components.get(Kind.STREET));
+        assertEquals(List.of("little tokyo"), components.get(Kind.ESTATE));
+
+        // words with digits are not estates
+        assertEquals(List.of(), AddressComponents.parse("10th street").get(Kind.ESTATE));
+    }
+
+    @Test
+    public void fromQualifier() {
+        assertEquals(Optional.of(Kind.BLOCK), Kind.fromQualifier("BLK"));
+        assertEquals(Optional.empty(), Kind.fromQualifier("floor"));
+    }
+
+    @Test
+    public void equals() {
+        AddressComponents components = AddressComponents.parse("Blk 30 Lorong 3, #07-18");
+        assertEquals(components, AddressComponents.parse("Blk 30  Lorong 3 , #07-18"));
+        assertNotEquals(components, AddressComponents.parse("Blk 30 Lorong 3, #07-19"));
+        assertNotEquals(components, null);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -34,6 +35,30 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
 
+    @Test
+    public void value_tokensShared_returnsAddressAsEntered() {
+        Address address = new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18");
+        Address neighbour = new Address("Blk 31  Lorong 3 Serangoon Gardens, #02-01 ");
+        assertEquals("Blk 30 Lorong 3 Serangoon Gardens, #07-18", address.value());
+        assertEquals("Blk 31  Lorong 3 Serangoon Gardens, #02-01 ", neighbour.value());
+
+        int[] ids = address.getTokenIds();
+        int[] neighbourIds = neighbour.getTokenIds();
+        assertEquals(7, ids.length);
+        assertEquals(ids[2], neighbourIds[3]); // Lorong, after the doubled space
+        assertEquals("Serangoon", Address.getDictionary().get(ids[4]));
+    }
+
+    @Test
+    public void getTokenIds_unitsAndPostalCodes_notInDictionary() {
+        Address address = new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18 S550030");
+        int[] ids = address.getTokenIds();
+        assertEquals(TokenDictionary.NO_ID, ids[6]);
+        assertEquals(TokenDictionary.NO_ID, ids[7]);
+        assertEquals(-1, Address.getDictionary().idOf("S550030"));
+        assertEquals(address, new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18 S550030"));
+    }
+
     @Test
     public void equals() {
         Address address = new Address("Valid Address");
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -66,6 +68,18 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void value_splitAtDomain_returnsAddressAsEntered() {
+        Email email = new Email("Peter.Jack@Example.com");
+        assertEquals("Peter.Jack@Example.com", email.value());
+        assertEquals("Peter.Jack", email.getLocalPart());
+        assertEquals("Example.com", email.getDomain());
+
+        // persons sharing a domain share its string
+        Email sameDomain = new Email(new StringBuilder("alex@").append("Example.com").toString());
+        assertSame(email.getDomain(), sameDomain.getDomain());
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -84,5 +98,6 @@ public class EmailTest {
 
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
+        assertFalse(email.equals(new Email("valid@other.email")));
     }
 }
@@ -37,6 +37,12 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same keywords in a different order and case -> returns true
+        NameContainsKeywordsPredicate secondPredicateReordered =
+                new NameContainsKeywordsPredicate(Arrays.asList("SECOND", "first", "first"));
+        assertTrue(secondPredicate.equals(secondPredicateReordered));
+        assertEquals(secondPredicate.hashCode(), secondPredicateReordered.hashCode());
     }
 
     @Test
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Tag;
+
+public class PersonRecordTest {
+
+    @Test
+    public void toPerson_recordOfPerson_returnsEqualPerson() throws Exception {
+        assertEquals(BENSON, PersonRecord.of(BENSON).toPerson());
+    }
+
+    @Test
+    public void toPerson_invalidTag_throwsIllegalValueException() {
+        PersonRecord record = new PersonRecord(null, null, null, null, Arrays.asList("friends", null));
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_CONSTRAINTS, record::toPerson);
+    }
+
+    @Test
+    public void toPerson_missingAddress_throwsIllegalValueException() {
+        PersonRecord record = new PersonRecord("Hans", "9482424", "hans@example.com", null, null);
+        assertThrows(IllegalValueException.class, String.format(PersonRecord.MESSAGE_MISSING_FIELD, "Address"),
+                record::toPerson);
+    }
+
+    @Test
+    public void equals() {
+        PersonRecord record = new PersonRecord("Hans", null, "hans@example.com", "4th street", List.of("friends"));
+
+        // same values -> returns true
+        assertTrue(record.equals(new PersonRecord("Hans", null, "hans@example.com", "4th street",
+                List.of("friends"))));
+
+        // same object -> returns true
+        assertTrue(record.equals(record));
+
+        // null -> returns false
+        assertFalse(record.equals(null));
+
+        // different type -> returns false
+        assertFalse(record.equals(5));
+
+        // different values -> returns false
+        assertFalse(record.equals(new PersonRecord("Hans", null, "hans@example.com", "4th street", null)));
+        assertFalse(PersonRecord.of(ALICE).equals(PersonRecord.of(BENSON)));
+    }
+}
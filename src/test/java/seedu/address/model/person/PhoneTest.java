@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -38,6 +41,16 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void value_packedOrBcd_returnsDigitsAsEntered() {
+        List<String> numbers = List.of("911", "0065", "000", "999999999999999999", "0123456789012345678",
+                "12345678901234567890");
+        for (String digits : numbers) {
+            assertEquals(digits, new Phone(digits).value());
+            assertEquals(new Phone(digits), new Phone(new String(digits)));
+        }
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -56,5 +69,7 @@ public class PhoneTest {
 
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
+        assertFalse(phone.equals(new Phone("0999"))); // leading zero
+        assertFalse(new Phone("12345678901234567890").equals(new Phone("1234567890123456789")));
     }
 }
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenDictionaryTest {
+
+    private final TokenDictionary dictionary = new TokenDictionary();
+
+    @Test
+    public void intern_repeatedToken_sameId() {
+        assertEquals(0, dictionary.intern("Blk"));
+        assertEquals(1, dictionary.intern("Street"));
+        assertEquals(0, dictionary.intern("Blk"));
+        assertEquals(0, dictionary.idOf("Blk"));
+        assertEquals(-1, dictionary.idOf("blk"));
+        assertEquals(2, dictionary.size());
+        assertEquals("Street", dictionary.get(1));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.get(2));
+    }
+
+    @Test
+    public void encodeDecode_manyTokens_roundTrips() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            tokens.add("token" + i);
+        }
+        tokens.add("token0");
+        byte[] encoded = dictionary.encode(tokens);
+
+        // ids up to 63 take one byte, up to 8191 two bytes and the rest three
+        assertEquals(64 + 2 * (8192 - 64) + 3 * (20000 - 8192) + 1, encoded.length);
+        assertEquals(tokens, dictionary.decode(encoded));
+        assertArrayEquals(new int[] {0, 16383, 16384}, TokenDictionary.decodeIds(
+                dictionary.encode(List.of("token0", "token16383", "token16384"))));
+        assertEquals(List.of(), dictionary.decode(dictionary.encode(List.of())));
+    }
+
+    @Test
+    public void encode_unsharedTokens_storedInPlace() {
+        List<String> tokens = List.of("Blk", "#07-18", "Street", "\u00fc", "");
+        byte[] encoded = dictionary.encode(tokens, token -> !token.startsWith("#") && !token.equals("\u00fc"));
+        assertEquals(tokens, dictionary.decode(encoded));
+        assertEquals(-1, dictionary.idOf("#07-18"));
+        assertEquals(3, dictionary.size());
+        assertArrayEquals(new int[] {0, TokenDictionary.NO_ID, 1, TokenDictionary.NO_ID, 2},
+                TokenDictionary.decodeIds(encoded));
+    }
+}
@@ -7,14 +7,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.exceptions.DuplicateFieldException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,6 +168,102 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_batch_replacesTargetsInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags().build();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.setPersons(Arrays.asList(BOB, ALICE), Arrays.asList(editedBob, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void setPersons_batchWithDuplicateOrMissingPerson_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person renamedAlice = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE), Arrays.asList(renamedAlice)));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, CARL), Arrays.asList(ALICE, CARL)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAllAndRemoveAll_batch_oneChangeEach() {
+        uniquePersonList.add(BOB);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(0, 2), Arrays.asList(ALICE, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(0), List.of(ALICE)));
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, AMY)));
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        assertEquals(Arrays.asList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void setUniqueFields_existingDuplicates_throwsAndKeepsFields() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(new PersonBuilder(BOB).withPhone(ALICE.getPhone().value()).build());
+
+        String expectedMessage = new DuplicateFieldException(UniqueField.PHONE, ALICE).getMessage();
+        assertThrows(DuplicateFieldException.class, expectedMessage, ()
+            -> uniquePersonList.setUniqueFields(EnumSet.of(UniqueField.EMAIL, UniqueField.PHONE)));
+        assertEquals(Set.of(), uniquePersonList.getUniqueFields());
+
+        uniquePersonList.setUniqueFields(EnumSet.of(UniqueField.EMAIL));
+        assertEquals(Set.of(UniqueField.EMAIL), uniquePersonList.getUniqueFields());
+    }
+
+    @Test
+    public void add_sharedUniqueField_throwsDuplicateFieldException() {
+        uniquePersonList.setUniqueFields(EnumSet.of(UniqueField.PHONE, UniqueField.EMAIL));
+        uniquePersonList.add(ALICE);
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value()).build();
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value().toUpperCase()).build();
+
+        assertThrows(DuplicateFieldException.class, String.format(DuplicateFieldException.MESSAGE_DUPLICATE_FIELD,
+                "phone number", ALICE.getName()), () -> uniquePersonList.add(samePhone));
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.add(sameEmail));
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.addAll(List.of(1, 2),
+                List.of(BOB, new PersonBuilder(CARL).withPhone(BOB.getPhone().value()).build())));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+
+        // the value becomes free once its holder is removed
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(samePhone);
+        assertEquals(List.of(samePhone), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_sharedUniqueField_throwsUnlessSwapped() {
+        uniquePersonList.setUniqueFields(EnumSet.of(UniqueField.PHONE));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value()).build();
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value()).build();
+
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBobPhone));
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withTags().build());
+
+        uniquePersonList.setPersons(List.of(BOB, uniquePersonList.asUnmodifiableObservableList().get(0)),
+                List.of(bobWithAlicePhone, aliceWithBobPhone));
+        assertEquals(List.of(aliceWithBobPhone, bobWithAlicePhone), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(DuplicateFieldException.class, () -> uniquePersonList.setPersons(List.of(ALICE,
+                new PersonBuilder(BOB).withPhone(ALICE.getPhone().value()).build())));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
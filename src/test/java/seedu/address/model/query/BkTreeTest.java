@@ -0,0 +1,43 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void search_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.search("alex", -1));
+    }
+
+    @Test
+    public void search_wordsWithinDistance_closestFirst() {
+        List.of("alex", "alexa", "alice", "bob", "yeoh", "alex").forEach(tree::add);
+
+        assertEquals(5, tree.size());
+        assertEquals(List.of("alex", "alexa"), tree.search("alex", 1));
+        assertEquals(List.of("alex", "alexa", "alice"), tree.search("alix", 2));
+        assertEquals(List.of(), tree.search("zzz", 2));
+    }
+
+    @Test
+    public void remove_mostWords_removedWordsNotFound() {
+        List.of("alex", "alexa", "alice", "bob", "yeoh").forEach(tree::add);
+        tree.remove("alex");
+        tree.remove("alexa");
+        tree.remove("bob");
+        tree.remove("missing");
+
+        assertEquals(2, tree.size());
+        assertEquals(List.of("alice"), tree.search("alix", 2));
+
+        tree.add("alex");
+        assertEquals(List.of("alex", "alice"), tree.search("alix", 2));
+    }
+}
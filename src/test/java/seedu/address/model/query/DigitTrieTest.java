@@ -0,0 +1,53 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class DigitTrieTest {
+
+    private final DigitTrie trie = new DigitTrie();
+
+    @Test
+    public void add_invalidKey_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DigitTrie.MESSAGE_CONSTRAINTS, () -> trie.add("94a", ALICE));
+    }
+
+    @Test
+    public void get_exactAndPrefix_personsUnderKeys() {
+        trie.add("9435", ALICE);
+        trie.add("9435", BENSON);
+        trie.add("943512", CARL);
+
+        assertEquals(Set.of(ALICE, BENSON), trie.get("9435"));
+        assertEquals(Set.of(), trie.get("943"));
+        assertEquals(Set.of(ALICE, BENSON, CARL), trie.getByPrefix("943"));
+        assertEquals(Set.of(CARL), trie.getByPrefix("94351"));
+        assertEquals(Set.of(ALICE, BENSON, CARL), trie.getByPrefix(""));
+        assertEquals(Set.of(), trie.getByPrefix("8"));
+        assertEquals(Set.of(), trie.getByPrefix("9x"));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void remove_lastPersonUnderKey_keyDropped() {
+        trie.add("9435", ALICE);
+        trie.add("943512", CARL);
+
+        trie.remove("943512", ALICE); // not stored under this key
+        trie.remove("943512", CARL);
+        assertEquals(Set.of(ALICE), trie.getByPrefix("94"));
+        assertEquals(Set.of(), trie.getByPrefix("94351"));
+        assertEquals(1, trie.size());
+
+        trie.clear();
+        assertEquals(Set.of(), trie.getByPrefix(""));
+        assertEquals(0, trie.size());
+    }
+}
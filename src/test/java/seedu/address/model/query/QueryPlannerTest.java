@@ -0,0 +1,209 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final FieldQuery NAME_MEIER = new FieldQuery(Field.NAME, "Meier");
+    private static final FieldQuery TAG_FRIENDS = new FieldQuery(Field.TAG, "friends");
+    private static final FieldQuery ADDRESS_STREET = new FieldQuery(Field.ADDRESS, "street");
+
+    private final List<Person> persons = getTypicalPersons();
+    private final QueryPlanner planner = new QueryPlanner();
+
+    @BeforeEach
+    public void setUp() {
+        planner.update(AddressBookChange.reset(Collections.emptyList(), persons));
+    }
+
+    @Test
+    public void execute_and_drivesFromMostSelectiveIndex() {
+        QueryPlan plan = planner.execute(new AndQuery(Arrays.asList(TAG_FRIENDS, ADDRESS_STREET, NAME_MEIER)),
+                persons);
+
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, NAME_MEIER), plan.getStrategy());
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(new AndQuery(Arrays.asList(TAG_FRIENDS, ADDRESS_STREET)).toString(), plan.getResidual());
+        assertEquals(Set.of(DANIEL), plan.getMatches());
+    }
+
+    @Test
+    public void execute_orWithUnindexedOperand_fullScan() {
+        QueryPlan plan = planner.execute(new OrQuery(Arrays.asList(NAME_MEIER, new FieldQuery(Field.EMAIL, "heinz"))),
+                persons);
+
+        assertEquals(QueryPlan.STRATEGY_SCAN, plan.getStrategy());
+        assertEquals(persons.size(), plan.getCandidateCount());
+        assertEquals(Set.of(BENSON, CARL, DANIEL), plan.getMatches());
+    }
+
+    @Test
+    public void execute_addressComponentPrefix_answeredFromAddressIndex() {
+        Person serangoon = new PersonBuilder().withName("Sera Ng")
+                .withAddress("Blk 436 Serangoon Gardens Street 26, #16-43").build();
+        planner.update(AddressBookChange.add(persons.size(), serangoon));
+        List<Person> allPersons = new ArrayList<>(persons);
+        allPersons.add(serangoon);
+
+        FieldQuery streetQuery = new FieldQuery(Field.ADDRESS, "street:street");
+        QueryPlan street = planner.execute(streetQuery, allPersons);
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, streetQuery), street.getStrategy());
+        assertEquals(QueryPlan.RESIDUAL_NONE, street.getResidual());
+        assertEquals(Set.of(CARL, DANIEL, GEORGE, serangoon), street.getMatches());
+
+        // components by kind, and by the start of their words
+        assertEquals(Set.of(serangoon), planner.execute(new FieldQuery(Field.ADDRESS, "blk:43"), allPersons)
+                .getMatches());
+        assertEquals(Set.of(serangoon), planner.execute(new FieldQuery(Field.ADDRESS, "#16-4"), allPersons)
+                .getMatches());
+        assertEquals(Set.of(ALICE), planner.execute(new FieldQuery(Field.ADDRESS, "estate:jur"), allPersons)
+                .getMatches());
+        assertEquals(Set.of(), planner.execute(new FieldQuery(Field.ADDRESS, "estate:26"), allPersons).getMatches());
+
+        // the index follows edits
+        Person moved = new PersonBuilder(serangoon).withAddress("Blk 30 Lorong 3 Serangoon Gardens, #07-18").build();
+        planner.update(AddressBookChange.set(persons.size(), serangoon, moved));
+        allPersons.set(persons.size(), moved);
+        assertEquals(Set.of(moved), planner.execute(new FieldQuery(Field.ADDRESS, "estate:serangoon"), allPersons)
+                .getMatches());
+        assertEquals(Set.of(), planner.execute(new FieldQuery(Field.ADDRESS, "blk:436"), allPersons).getMatches());
+    }
+
+    @Test
+    public void execute_unqualifiedAddress_matchesAnyPartOfAddress() {
+        QueryPlan street = planner.execute(ADDRESS_STREET, persons);
+        assertEquals(QueryPlan.STRATEGY_SCAN, street.getStrategy());
+        assertEquals(Set.of(CARL, DANIEL, GEORGE), street.getMatches());
+
+        // the middle and end of words
+        assertEquals(Set.of(ALICE), planner.execute(new FieldQuery(Field.ADDRESS, "RONG"), persons).getMatches());
+        assertEquals(Set.of(DANIEL, GEORGE), planner.execute(new FieldQuery(Field.ADDRESS, "th"), persons)
+                .getMatches());
+    }
+
+    @Test
+    public void execute_nameKeywords_answeredFromNameIndex() {
+        QueryPlan plan = planner.execute(new NameContainsKeywordsPredicate(Arrays.asList("alice", "KURZ")), persons);
+
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(QueryPlan.RESIDUAL_NONE, plan.getResidual());
+        assertEquals(Set.of(ALICE, CARL), plan.getMatches());
+    }
+
+    @Test
+    public void execute_emailDomainAfterChanges_indexUpToDate() {
+        Person edited = new PersonBuilder(ALICE).withEmail("alice@nus.edu.sg").build();
+        planner.update(AddressBookChange.set(0, ALICE, edited));
+        planner.update(AddressBookChange.remove(1, BENSON));
+
+        FieldQuery domain = new FieldQuery(Field.EMAIL, "@NUS.edu.sg");
+        assertEquals(Set.of(edited), planner.execute(domain, persons).getMatches());
+        assertEquals(Set.of(DANIEL), planner.execute(new AndQuery(Arrays.asList(TAG_FRIENDS,
+                new NotQuery(domain))), persons).getMatches());
+    }
+
+    @Test
+    public void execute_phoneWildcards_answeredFromDigitTries() {
+        QueryPlan prefix = planner.execute(new FieldQuery(Field.PHONE, "948*"), persons);
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, "p/948*"), prefix.getStrategy());
+        assertEquals(Set.of(ELLE, FIONA, GEORGE), prefix.getMatches());
+
+        assertEquals(Set.of(ALICE, CARL, DANIEL), planner.execute(new FieldQuery(Field.PHONE, "*3"), persons)
+                .getMatches());
+        assertEquals(Set.of(ALICE, CARL), planner.execute(new FieldQuery(Field.PHONE, "9*3"), persons)
+                .getMatches());
+        assertEquals(Set.of(ELLE), planner.execute(new FieldQuery(Field.PHONE, "94*2*4"), persons).getMatches());
+        assertEquals(Set.of(DANIEL), planner.execute(new FieldQuery(Field.PHONE, "87652533"), persons)
+                .getMatches());
+
+        // digits in the middle alone cannot be looked up
+        QueryPlan infix = planner.execute(new FieldQuery(Field.PHONE, "*52*"), persons);
+        assertEquals(QueryPlan.STRATEGY_SCAN, infix.getStrategy());
+        assertEquals(Set.of(CARL, DANIEL), infix.getMatches());
+    }
+
+    @Test
+    public void execute_approximateName_answeredFromTrigramIndex() {
+        QueryPlan substring = planner.execute(new ApproximateNameQuery("EIE"), persons);
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, "~eie"), substring.getStrategy());
+        assertEquals(QueryPlan.RESIDUAL_NONE, substring.getResidual());
+        assertEquals(Set.of(BENSON, DANIEL), substring.getMatches());
+
+        // one edit is allowed for terms of three to five letters, two for longer terms
+        assertEquals(Set.of(ELLE), planner.execute(new ApproximateNameQuery("meyr"), persons).getMatches());
+        assertEquals(Set.of(CARL), planner.execute(new ApproximateNameQuery("kurtz"), persons).getMatches());
+        assertEquals(Set.of(ALICE), planner.execute(new ApproximateNameQuery("paulnie"), persons).getMatches());
+        assertEquals(Set.of(), planner.execute(new ApproximateNameQuery("bob"), persons).getMatches());
+    }
+
+    @Test
+    public void execute_approximateNameAfterChanges_indexUpToDate() {
+        Person edited = new PersonBuilder(ALICE).withName("Alex Yeoh").build();
+        planner.update(AddressBookChange.set(0, ALICE, edited));
+        planner.update(AddressBookChange.remove(1, BENSON));
+
+        assertEquals(Set.of(edited), planner.execute(new ApproximateNameQuery("yeo"), persons).getMatches());
+        assertEquals(Set.of(edited), planner.execute(new ApproximateNameQuery("alxe"), persons).getMatches());
+        assertEquals(Set.of(), planner.execute(new ApproximateNameQuery("pauline"), persons).getMatches());
+        // Daniel Meier still has the word that Benson Meier no longer has, and Meyer is one edit away
+        assertEquals(Set.of(DANIEL, ELLE), planner.execute(new ApproximateNameQuery("meier"), persons).getMatches());
+    }
+
+    @Test
+    public void execute_phoneticName_answeredFromPhoneticIndex() {
+        QueryPlan plan = planner.execute(new PhoneticNameQuery("Mayer"), persons);
+        assertEquals(String.format(QueryPlan.STRATEGY_INDEX, "ph/mayer"), plan.getStrategy());
+        assertEquals(QueryPlan.RESIDUAL_NONE, plan.getResidual());
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), plan.getMatches());
+
+        Person edited = new PersonBuilder(ELLE).withName("Elle Khim").build();
+        planner.update(AddressBookChange.set(4, ELLE, edited));
+        assertEquals(Set.of(BENSON, DANIEL), planner.execute(new PhoneticNameQuery("mayer"), persons).getMatches());
+        assertEquals(Set.of(edited), planner.execute(new PhoneticNameQuery("kym"), persons).getMatches());
+    }
+
+    @Test
+    public void rankBySound_phoneticTerms_closestFirst() {
+        Query query = new AndQuery(Arrays.asList(new PhoneticNameQuery("mayer"), TAG_FRIENDS));
+        assertEquals(Optional.of(List.of(ELLE, BENSON, DANIEL)),
+                planner.rankBySound(query, Set.of(BENSON, DANIEL, ELLE)));
+        // negated terms are not ranked by
+        assertEquals(Optional.empty(), planner.rankBySound(new NotQuery(new PhoneticNameQuery("mayer")),
+                Set.of(ALICE)));
+    }
+
+    @Test
+    public void suggestNameWords_misspelledTerms_closeNameWordsSuggested() {
+        Query query = new AndQuery(Arrays.asList(new FieldQuery(Field.NAME, "bensen"), new ApproximateNameQuery("xyz"),
+                new NotQuery(new FieldQuery(Field.NAME, "kurtz")), NAME_MEIER));
+
+        // existing words and negated terms are not corrected
+        assertEquals(List.of("benson"), planner.suggestNameWords(query));
+        assertEquals(List.of("meier", "meyer"), planner.suggestNameWords(
+                new NameContainsKeywordsPredicate(Arrays.asList("Meir"))));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.AddressBookEvent;
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FullTextIndexTest {
+
+    private final FullTextIndex index = new FullTextIndex();
+
+    private void update(AddressBookChange change) {
+        index.onEvents(AddressBookEvent.of(change));
+    }
+
+    private List<Person> search(List<String> keywords, int limit) {
+        return index.search(keywords, limit).stream().map(ScoredPerson::getPerson).collect(Collectors.toList());
+    }
+
+    @Test
+    public void search_wordsInSeveralFields_bestMatchesFirst() {
+        update(AddressBookChange.reset(Collections.emptyList(), getTypicalPersons()));
+
+        // Daniel matches both words; a name counts for more than an address; ties are ordered by name
+        assertEquals(List.of(DANIEL, BENSON, CARL, GEORGE), search(List.of("Meier", "STREET"), 10));
+        assertEquals(List.of(DANIEL, BENSON), search(List.of("meier street"), 2));
+        assertEquals(List.of(), search(List.of("nobody"), 10));
+    }
+
+    @Test
+    public void search_tagAndEmail_indexed() {
+        update(AddressBookChange.reset(Collections.emptyList(), List.of(ALICE, BENSON, CARL)));
+
+        assertEquals(List.of(BENSON), search(List.of("owesmoney"), 10));
+        assertEquals(List.of(CARL), search(List.of("heinz"), 10));
+        assertEquals(3, index.search(List.of("example.com"), 10).size());
+    }
+
+    @Test
+    public void search_rarerWord_scoresHigher() {
+        Person frequent = new PersonBuilder().withName("Amy Tan").withAddress("Jurong West").build();
+        Person rare = new PersonBuilder().withName("Bob Lim").withAddress("Clementi West").build();
+        Person other = new PersonBuilder().withName("Cai Ng").withAddress("Jurong East").build();
+        update(AddressBookChange.reset(Collections.emptyList(), List.of(frequent, rare, other)));
+
+        assertEquals(List.of(rare, frequent, other), search(List.of("clementi", "jurong"), 10));
+    }
+
+    @Test
+    public void onEvents_setAndRemove_reindexesTouchedPersons() {
+        update(AddressBookChange.reset(Collections.emptyList(), List.of(ALICE, BENSON)));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Clementi Road").build();
+        update(AddressBookChange.set(0, ALICE, editedAlice));
+        update(AddressBookChange.add(2, CARL));
+
+        assertEquals(List.of(), search(List.of("jurong"), 10));
+        assertEquals(List.of(editedAlice, BENSON), search(List.of("clementi"), 10));
+
+        update(AddressBookChange.remove(1, BENSON));
+        assertEquals(List.of(editedAlice), search(List.of("clementi"), 10));
+        assertEquals(2, index.size());
+
+        update(AddressBookChange.reset(List.of(editedAlice, CARL), Collections.emptyList()));
+        assertEquals(0, index.size());
+        assertEquals(List.of(), search(List.of("clementi"), 10));
+    }
+
+    @Test
+    public void search_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FullTextIndex.MESSAGE_LIMIT_CONSTRAINTS, () ->
+                index.search(List.of("alice"), 0));
+    }
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("123", "jurong", "west", "ave", "6", "08", "111"),
+                FullTextIndex.tokenize("123, Jurong West Ave 6, #08-111"));
+        assertEquals(List.of("alice", "example", "com"), FullTextIndex.tokenize("alice@example.com"));
+        assertEquals(List.of(), FullTextIndex.tokenize(" - "));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.AddressBookEvent;
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class StatisticsCounterTest {
+
+    private final StatisticsCounter counter = new StatisticsCounter();
+
+    private void update(AddressBookChange change) {
+        counter.onEvents(AddressBookEvent.of(change));
+    }
+
+    @Test
+    public void onEvents_reset_countsAllPersons() {
+        update(AddressBookChange.reset(Collections.emptyList(), List.of(ALICE, BENSON, CARL)));
+
+        AddressBookStatistics statistics = counter.getStatistics();
+        assertEquals(3, statistics.getPersonCount());
+        assertEquals(Map.of("friends", 2, "owesmoney", 1), statistics.getTagCounts());
+        assertEquals(Map.of("example.com", 3), statistics.getEmailDomainCounts());
+        // most common first
+        assertEquals(List.of("friends", "owesmoney"), List.copyOf(statistics.getTagCounts().keySet()));
+    }
+
+    @Test
+    public void onEvents_addSetRemove_countsTouchedPersonsOnly() {
+        update(AddressBookChange.reset(Collections.emptyList(), List.of(ALICE, BENSON)));
+        update(AddressBookChange.add(2, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@Work.org").withTags("Friends").build();
+        update(AddressBookChange.set(1, BENSON, editedBenson));
+        update(AddressBookChange.remove(0, ALICE));
+
+        assertEquals(new AddressBookStatistics(2, Map.of("friends", 1), Map.of("example.com", 1, "work.org", 1)),
+                counter.getStatistics());
+
+        update(AddressBookChange.reset(List.of(editedBenson, CARL), Collections.emptyList()));
+        assertEquals(new AddressBookStatistics(0, Map.of(), Map.of()), counter.getStatistics());
+    }
+}
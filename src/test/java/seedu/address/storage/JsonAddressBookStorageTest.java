@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonRecord;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +62,31 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readPersonRecords_invalidAndValidPersonAddressBook_allRecordsRead() throws Exception {
+        Path filePath = addToTestDataPathIfNotNull("invalidAndValidPersonAddressBook.json");
+        List<PersonRecord> records = new JsonAddressBookStorage(filePath).readPersonRecords().get();
+        assertEquals(List.of(
+                new PersonRecord("Valid Person", "9482424", "hans@example.com", "4th street", List.of()),
+                new PersonRecord("Person With Invalid Phone Field", "948asdf2424", "hans@example.com", "4th street",
+                        List.of())), records);
+        assertFalse(new JsonAddressBookStorage(filePath).readPersonRecords(Paths.get("NonExistentFile.json"))
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_invalidRecords_writtenBackUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        PersonRecord invalidRecord = new PersonRecord(null, "948asdf2424", "hans@example.com", "4th street",
+                List.of("friends", "not valid"));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), List.of(invalidRecord));
+        List<PersonRecord> records = jsonAddressBookStorage.readPersonRecords().get();
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, records.size());
+        assertEquals(invalidRecord, records.get(records.size() - 1));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");